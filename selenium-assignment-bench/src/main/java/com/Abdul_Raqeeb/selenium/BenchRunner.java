@@ -0,0 +1,95 @@
+package com.Abdul_Raqeeb.selenium;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the benchmarks matching bench.include (average time per call, ns)
+ * and writes JMH's JSON results to bench.results. Keep that file from one
+ * commit and pass it as bench.baseline on the next: every benchmark that
+ * got more than bench.threshold (default 10%) slower is listed and the run
+ * exits with status 1.
+ *
+ * bench.forks, bench.warmup and bench.iterations (1s each) trade accuracy
+ * for time; -Dbench.iterations=2 -Dbench.warmup=1 is enough for a smoke run.
+ */
+public class BenchRunner {
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        Path results = Paths.get(TestConfig.get("bench.results", "target/jmh-results.json"));
+        Files.createDirectories(results.toAbsolutePath().getParent());
+        Options options = new OptionsBuilder()
+                .include(TestConfig.get("bench.include", ".*Bench.*"))
+                .mode(Mode.AverageTime)
+                .timeUnit(TimeUnit.NANOSECONDS)
+                .forks(TestConfig.getInt("bench.forks", 1))
+                .warmupIterations(TestConfig.getInt("bench.warmup", 3))
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(TestConfig.getInt("bench.iterations", 5))
+                .measurementTime(TimeValue.seconds(1))
+                .resultFormat(ResultFormatType.JSON)
+                .result(results.toString())
+                .build();
+        new Runner(options).run();
+        System.out.println("BenchRunner: results in " + results.toAbsolutePath());
+
+        String baseline = TestConfig.get("bench.baseline", null);
+        if (baseline == null) return;
+        double threshold = Double.parseDouble(TestConfig.get("bench.threshold", "0.10"));
+        List<String> slower = compare(scores(Paths.get(baseline)), scores(results), threshold);
+        if (slower.isEmpty()) {
+            System.out.println("BenchRunner: no benchmark more than " + Math.round(threshold * 100) + "% slower than " + baseline);
+            return;
+        }
+        System.err.println("BenchRunner: slower than " + baseline + ":");
+        slower.forEach(line -> System.err.println("  " + line));
+        System.exit(1);
+    }
+
+    /** Score per benchmark ("Class.method" plus its params) from a JMH JSON result file. */
+    static Map<String, Double> scores(Path file) throws IOException {
+        Map<String, Double> scores = new LinkedHashMap<>();
+        for (JsonNode result : mapper.readTree(file.toFile())) {
+            StringBuilder name = new StringBuilder(result.path("benchmark").asText().replaceAll("^.*\\.(\\w+\\.\\w+)$", "$1"));
+            for (Iterator<Map.Entry<String, JsonNode>> it = result.path("params").fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> param = it.next();
+                name.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            scores.put(name.toString(), result.path("primaryMetric").path("score").asDouble());
+        }
+        return scores;
+    }
+
+    /** Benchmarks whose score (time per call) grew by more than threshold, one line each. */
+    static List<String> compare(Map<String, Double> baseline, Map<String, Double> current, double threshold) {
+        List<String> slower = new ArrayList<>();
+        current.forEach((name, score) -> {
+            Double before = baseline.get(name);
+            if (before != null && before > 0 && score > before * (1 + threshold)) {
+                slower.add(String.format(Locale.ROOT, "%s: %.1f ns -> %.1f ns (+%.0f%%)",
+                        name, before, score, (score * 100.0 / before) - 100));
+            }
+        });
+        return slower;
+    }
+}
@@ -0,0 +1,51 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Leasing and returning an account from a {@link CredentialPool} on disk
+ * (the file locks and lease files every test pays for), with a pool of the
+ * given size. No accounts are signed up: the pool is filled up front.
+ */
+@State(Scope.Thread)
+public class CredentialPoolBench {
+    @Param({"4", "64"})
+    public int accounts;
+
+    private Path dir;
+    private CredentialPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("credential-pool-bench");
+        pool = new CredentialPool(null, dir, 4, Duration.ofMinutes(60));
+        for (int i = 0; i < accounts; i++) pool.add("bench_user_" + i, "secret" + i);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public String leaseAndRelease() {
+        CredentialPool.Lease lease = pool.lease();
+        pool.release(lease);
+        return lease.username();
+    }
+}
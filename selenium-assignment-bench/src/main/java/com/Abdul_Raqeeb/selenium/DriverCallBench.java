@@ -0,0 +1,53 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cost of the listeners {@link DriverPool} wraps around every driver, per
+ * findElement + click + getText: none (raw driver), the {@link StepTimer}
+ * alone, or everything a recording run installs (StepTimer,
+ * {@link Diagnostics}, {@link ImpactRecorder}).
+ */
+@State(Scope.Thread)
+public class DriverCallBench {
+    private static final By ADD_TO_CART = By.linkText("Add to cart");
+
+    @Param({"none", "timer", "all"})
+    public String listeners;
+
+    private WebDriver driver;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        WebDriver fake = new FakeDriver();
+        List<WebDriverListener> chain = new ArrayList<>();
+        if (!listeners.equals("none")) chain.add(new StepTimer());
+        if (listeners.equals("all")) {
+            chain.add(new Diagnostics(200));
+            chain.add(new ImpactRecorder());
+        }
+        driver = chain.isEmpty() ? fake
+                : new EventFiringDecorator<>(chain.toArray(new WebDriverListener[0])).decorate(fake);
+        Timings.startTest("DriverCallBench." + listeners);
+    }
+
+    @Benchmark
+    public String findClickRead() {
+        WebElement element = driver.findElement(ADD_TO_CART);
+        element.click();
+        return element.getText();
+    }
+}
@@ -0,0 +1,42 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/** Matching a page load's worth of request URLs against the deny/allow rules of {@link RequestBlocker}. */
+@State(Scope.Thread)
+public class RequestBlockerBench {
+    private static final List<String> URLS = List.of(
+            "https://www.demoblaze.com/index.html",
+            "https://www.demoblaze.com/js/index.js",
+            "https://api.demoblaze.com/entries",
+            "https://www.demoblaze.com/imgs/galaxy_s6.jpg",
+            "https://www.demoblaze.com/imgs/nexus_6.jpg",
+            "https://fonts.googleapis.com/css?family=Roboto",
+            "https://www.google-analytics.com/analytics.js",
+            "https://www.demoblaze.com/node_modules/bootstrap/dist/css/bootstrap.min.css",
+            "https://hls.demoblaze.com/index.m3u8",
+            "https://www.demoblaze.com/favicon.ico");
+
+    private RequestBlocker blocker;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // network.deny from config.properties, plus the image rule of CartTest
+        blocker = new RequestBlocker(
+                List.of("*google-analytics.com*", "*googletagmanager.com*", "*doubleclick.net*", "*hotjar.com*",
+                        "*fonts.googleapis.com*", "*fonts.gstatic.com*", "*.woff*", "*.ttf*", "*/imgs/*"),
+                List.of("*/imgs/galaxy_s6.jpg"));
+    }
+
+    @Benchmark
+    public void pageLoad(Blackhole bh) {
+        for (String url : URLS) bh.consume(blocker.blocks(url));
+    }
+}
@@ -0,0 +1,52 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The end-of-run regression check of {@link RunHistory}: comparing a run of
+ * 30 tests with 8 timed steps each against a history of the given length.
+ */
+@State(Scope.Thread)
+public class RunHistoryBench {
+    private static final String[] STEPS = {RunHistory.TEST_STEP, "driver.get", "driver.findElement", "element.click",
+            "element.sendKeys", "wait", "pool.acquire", "alert.accept"};
+
+    @Param({"20", "200"})
+    public int runs;
+
+    private List<RunHistory.Run> history;
+    private RunHistory.Run current;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        history = new ArrayList<>();
+        for (int i = 0; i < runs; i++) history.add(run(random, i));
+        current = run(random, runs);
+    }
+
+    private static RunHistory.Run run(Random random, long startedAt) {
+        List<RunHistory.Entry> entries = new ArrayList<>();
+        for (int t = 0; t < 30; t++) {
+            for (String step : STEPS) {
+                entries.add(new RunHistory.Entry("Test" + t + ".run", step, SpiraMap.Status.PASSED,
+                        1_000 + random.nextInt(500_000)));
+            }
+        }
+        return new RunHistory.Run(startedAt, entries);
+    }
+
+    @Benchmark
+    public List<String> regressions() {
+        return RunHistory.regressions(history, current, 20, 0.25, 5);
+    }
+}
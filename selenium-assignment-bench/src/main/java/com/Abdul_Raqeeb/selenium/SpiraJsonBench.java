@@ -0,0 +1,51 @@
+package com.Abdul_Raqeeb.selenium;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.ZonedDateTime;
+
+/** Building the JSON body of a Spira test run ({@link SpiraClient#writeRun}), with and without a stack trace. */
+@State(Scope.Thread)
+public class SpiraJsonBench {
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private SpiraMap.TestRun passed;
+    private SpiraMap.TestRun failed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ZonedDateTime start = ZonedDateTime.parse("2024-06-01T10:15:30Z");
+        passed = new SpiraMap.TestRun(3211, 1505, 118, SpiraMap.Status.PASSED, "Selenium",
+                "CartTest.testAddAndRemoveCart", "Passed", "", start, start.plusSeconds(12));
+        StringBuilder stack = new StringBuilder("org.opentest4j.AssertionFailedError: \"quoted\" \\ tab\t\n");
+        for (int i = 0; i < 40; i++) stack.append("\tat com.Abdul_Raqeeb.selenium.CartPage.step").append(i).append("(CartPage.java:").append(i).append(")\n");
+        failed = new SpiraMap.TestRun(3211, 1505, 118, SpiraMap.Status.FAILED, "Selenium",
+                "CartTest.testAddAndRemoveCart", "expected: <1> but was: <0>", stack.toString(), start, start.plusSeconds(12));
+    }
+
+    @Benchmark
+    public String passedRun() throws IOException {
+        return write(passed);
+    }
+
+    @Benchmark
+    public String failedRunWithStack() throws IOException {
+        return write(failed);
+    }
+
+    private static String write(SpiraMap.TestRun run) throws IOException {
+        StringWriter out = new StringWriter(512);
+        try (JsonGenerator g = JSON.createGenerator(out)) {
+            SpiraClient.writeRun(g, run);
+        }
+        return out.toString();
+    }
+}
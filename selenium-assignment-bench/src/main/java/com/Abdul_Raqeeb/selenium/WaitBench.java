@@ -0,0 +1,56 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+
+/**
+ * Wait and locator paths the page objects run on every step: a
+ * {@link FastWait} whose condition already holds or holds after a few page
+ * changes, and a {@link LazyElement} served from its cache vs looked up
+ * again after invalidation.
+ */
+@State(Scope.Thread)
+public class WaitBench {
+    private static final By CART_ROWS = By.cssSelector("#tbodyid > tr");
+
+    private FakeDriver driver;
+    private FastWait wait;
+    private LazyElement element;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        driver = new FakeDriver();
+        wait = new FastWait(driver, Duration.ofSeconds(5));
+        element = new LazyElement(driver, CART_ROWS);
+    }
+
+    @Benchmark
+    public WebElement fastWaitImmediate() {
+        return wait.until(ExpectedConditions.visibilityOfElementLocated(CART_ROWS));
+    }
+
+    @Benchmark
+    public Boolean fastWaitAfterThreeChanges() {
+        int[] checks = {0};
+        return wait.until(d -> ++checks[0] > 3);
+    }
+
+    @Benchmark
+    public String lazyElementCached() {
+        return element.getText();
+    }
+
+    @Benchmark
+    public String lazyElementRefind() {
+        element.invalidate();
+        return element.getText();
+    }
+}
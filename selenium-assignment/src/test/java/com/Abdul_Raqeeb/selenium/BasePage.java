@@ -0,0 +1,52 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base for page objects. Locators live in each page as static By
+ * constants; elements are declared with {@link #element(By)} and cached
+ * until {@link #invalidate()} (called by anything that loads a new page).
+ */
+public abstract class BasePage {
+    protected final WebDriver driver;
+    protected final WebDriverWait wait;
+    private final List<LazyElement> elements = new ArrayList<>();
+
+    protected BasePage(WebDriver driver, WebDriverWait wait) {
+        this.driver = driver;
+        this.wait = wait;
+        ImpactMap.touch(ImpactMap.PAGE_OBJECT, getClass().getSimpleName());
+    }
+
+    protected LazyElement element(By by) {
+        LazyElement element = new LazyElement(driver, by);
+        elements.add(element);
+        return element;
+    }
+
+    /** Forget every cached element of this page. */
+    protected void invalidate() {
+        elements.forEach(LazyElement::invalidate);
+    }
+
+    protected void navigate(String url) {
+        driver.get(url);
+        invalidate();
+    }
+
+    /** Wait for a browser alert, accept it and return its text. */
+    public String acceptAlert() {
+        wait.until(ExpectedConditions.alertIsPresent());
+        Alert alert = driver.switchTo().alert();
+        String text = alert.getText();
+        alert.accept();
+        return text;
+    }
+}
@@ -1,26 +1,106 @@
 package com.Abdul_Raqeeb.selenium;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
-import org.junit.jupiter.api.AfterAll;
-import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.openqa.selenium.Cookie;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Common fixture: each test borrows a warm browser from {@link DriverPool}
+ * and hands it back (reset) afterwards. {@link #wait} is a {@link FastWait},
+ * so conditions resolve as soon as the page changes. Requests the test
+ * class doesn't need are blocked ({@link RequestFilters}, {@link NetworkRules}).
+ * Failed tests get a screenshot ({@link ScreenshotExtension}) and a dump
+ * of the browser's recent activity ({@link DiagnosticsExtension}); failures
+ * are retried once and flaky tests quarantined ({@link RetryExtension}).
+ *
+ * Preconditions that are not the subject of a test (a user, a login, a
+ * filled cart) should be set up through {@link #api} and the helpers below
+ * rather than by clicking through the UI; accounts come from
+ * {@link #leaseUser()}.
+ */
+@ExtendWith({RetryExtension.class, ScreenshotExtension.class, DiagnosticsExtension.class})
 public class BaseTest {
-    protected static WebDriver driver;
-    protected static final String BASE_URL = "https://www.demoblaze.com";
+    protected static final String BASE_URL = TestConfig.baseUrl();
+    protected static final DemoblazeApi api = DemoblazeApi.fromConfig();
+    protected WebDriver driver;
+    protected WebDriverWait wait;
+    private final List<CredentialPool.Lease> leases = new ArrayList<>();
+
+    @BeforeEach
+    void acquireDriver() {
+        driver = DriverPool.acquire();
+        RequestFilters.install(driver, getClass());
+        wait = new FastWait(driver, waitTimeout());
+    }
+
+    /** Timeout for {@link #wait}; override in a test class that needs a different one. */
+    protected Duration waitTimeout() {
+        return Duration.ofSeconds(15);
+    }
+
+    /** Lease an account from {@link CredentialPool} for this test; it is handed back after the test. */
+    protected CredentialPool.Lease leaseUser() {
+        CredentialPool.Lease lease = CredentialPool.shared().lease();
+        leases.add(lease);
+        return lease;
+    }
 
-    @BeforeAll
-    static void setup() {
-        WebDriverManager.chromedriver().setup();
-        driver = new ChromeDriver();
-        driver.manage().window().maximize();
+    /** Log in through the API and give the browser the resulting session cookie. */
+    protected void loginViaApi(String username, String password) {
+        setSiteCookie(DemoblazeApi.TOKEN_COOKIE, api.logIn(username, password));
     }
 
-    @AfterAll
-    static void teardown() {
-        if (driver != null) {
-            driver.quit();
+    /**
+     * Put the browser in user's logged-in state: restored from
+     * {@link SessionCache} when a verified session is saved, otherwise by
+     * logging in through the API and saving the result for later tests.
+     */
+    protected void logIn(CredentialPool.Lease user) {
+        SessionCache sessions = SessionCache.shared();
+        onSite(() -> {
+            if (sessions != null && sessions.restore(driver, user.username())) return;
+            loginViaApi(user.username(), user.password());
+            if (sessions != null) sessions.save(driver, user.username());
+        });
+    }
+
+    /** Fill an anonymous cart through the API and give the browser its owner cookie. */
+    protected void addToCartViaApi(int... productIds) {
+        String visitor = UUID.randomUUID().toString();
+        for (int id : productIds) api.addToCart(visitor, id, false);
+        setSiteCookie(DemoblazeApi.USER_COOKIE, visitor);
+    }
+
+    private void setSiteCookie(String name, String value) {
+        onSite(() -> driver.manage().addCookie(new Cookie(name, value, "/")));
+    }
+
+    /**
+     * Cookies and storage can only be set for the current origin, so land on
+     * the site first. It has to be a real HTML page: drivers refuse cookies
+     * on error pages, and /favicon.ico is a 404 on the local stand-in.
+     */
+    private void onSite(Runnable step) {
+        if (!driver.getCurrentUrl().startsWith(BASE_URL)) {
+            driver.get(BASE_URL + "/index.html");
         }
+        step.run();
+    }
+
+    @AfterEach
+    void releaseDriver() {
+        RequestFilters.uninstall(driver);
+        DriverPool.release(driver);
+        driver = null;
+        leases.forEach(CredentialPool.shared()::release);
+        leases.clear();
     }
 }
@@ -0,0 +1,191 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.UnexpectedAlertBehaviour;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.htmlunit.BrowserVersion;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.openqa.selenium.htmlunit.options.HtmlUnitDriverOptions;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Builds the Chrome sessions used by the suite, selected with
+ * browser.profile:
+ *
+ * - default: headed Chrome, maximized window (what the suite always did)
+ * - headless: --headless=new with a fixed 1366x768 viewport
+ * - lean: headless plus no extensions, images or background networking,
+ *   eager page loads and a throwaway profile dir on tmpfs (/dev/shm)
+ *
+ * Every profile keeps unexpected alerts open (IGNORE) so waits can still
+ * see them. BrowserProfileBench compares startup time and memory. With
+ * driver.remote.url set, sessions are started on that Selenium Grid
+ * instead of a local chromedriver.
+ *
+ * browser=htmlunit replaces Chrome with HtmlUnit, a browser that runs
+ * inside the test JVM: pages, scripts, alerts and modals work, but there is
+ * no rendering, screenshots or DevTools. With base.url=local (mvn test
+ * -Pfast) the whole suite runs without a browser process, for quick checks
+ * of the test logic before the full Chrome pass.
+ */
+public class BrowserOptions {
+    public static final String DEFAULT = "default";
+    public static final String HEADLESS = "headless";
+    public static final String LEAN = "lean";
+    public static final String CHROME = "chrome";
+    public static final String HTMLUNIT = "htmlunit";
+
+    private static final Map<WebDriver, Path> userDataDirs = new ConcurrentHashMap<>();
+
+    /** Profile chosen for this run (browser.profile, default "default"). */
+    public static String profile() {
+        return TestConfig.get("browser.profile", DEFAULT).toLowerCase();
+    }
+
+    /** Browser for this run (browser, default "chrome"). */
+    public static String browser() {
+        return browser(TestConfig.get("browser", CHROME));
+    }
+
+    /** A browser setting normalized to chrome or htmlunit; anything else is an error. */
+    static String browser(String name) {
+        String browser = name.trim().toLowerCase(Locale.ROOT);
+        if (!List.of(CHROME, HTMLUNIT).contains(browser)) {
+            throw new IllegalArgumentException("Unknown browser: " + name + " (expected chrome or htmlunit)");
+        }
+        return browser;
+    }
+
+    /** True for an in-JVM HtmlUnit session, decorated or not. */
+    public static boolean isHtmlUnit(WebDriver driver) {
+        while (driver instanceof WrapsDriver) driver = ((WrapsDriver) driver).getWrappedDriver();
+        return driver instanceof HtmlUnitDriver;
+    }
+
+    /** Start a session for the given profile: Chrome, or HtmlUnit when browser=htmlunit. */
+    public static WebDriver newDriver(String profile) {
+        if (HTMLUNIT.equals(browser())) return newHtmlUnitDriver();
+        String remote = TestConfig.get("driver.remote.url", null);
+        if (remote != null) return newRemoteDriver(remote, profile);
+        DriverBinary.resolve();
+        Path userDataDir = LEAN.equals(profile) ? createUserDataDir() : null;
+        ChromeOptions options = forProfile(profile, userDataDir);
+        WebDriver driver;
+        try {
+            driver = new ChromeDriver(options);
+        } catch (SessionNotCreatedException e) {
+            // usually a cached driver that no longer matches an updated Chrome
+            if (!DriverBinary.invalidate()) throw e;
+            System.err.println("BrowserOptions: session not created, re-resolving chromedriver: " + e.getMessage());
+            DriverBinary.resolve();
+            driver = new ChromeDriver(options);
+        }
+        if (DEFAULT.equals(profile)) driver.manage().window().maximize();
+        if (userDataDir != null) userDataDirs.put(driver, userDataDir);
+        return driver;
+    }
+
+    /**
+     * An HtmlUnit session emulating Chrome with JavaScript on. The profile
+     * does not apply: HtmlUnit never opens a window or loads images.
+     */
+    static WebDriver newHtmlUnitDriver() {
+        HtmlUnitDriverOptions options = new HtmlUnitDriverOptions(BrowserVersion.CHROME, true);
+        options.setUnhandledPromptBehaviour(UnexpectedAlertBehaviour.IGNORE);
+        return new HtmlUnitDriver(options);
+    }
+
+    /**
+     * A session on a Selenium Grid / standalone server. Augmented so DevTools
+     * features (request filtering) work when the grid exposes CDP. The lean
+     * profile's tmpfs dir is left to the node, since local paths mean nothing there.
+     */
+    private static WebDriver newRemoteDriver(String url, String profile) {
+        WebDriver driver;
+        try {
+            driver = new Augmenter().augment(new RemoteWebDriver(URI.create(url).toURL(), forProfile(profile, null)));
+        } catch (MalformedURLException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Bad driver.remote.url: " + url, e);
+        }
+        if (DEFAULT.equals(profile)) driver.manage().window().maximize();
+        return driver;
+    }
+
+    public static ChromeOptions forProfile(String profile, Path userDataDir) {
+        ChromeOptions options = new ChromeOptions();
+        // leave alerts open when another command runs, so a wait can still see them
+        options.setUnhandledPromptBehaviour(UnexpectedAlertBehaviour.IGNORE);
+        if (!List.of(DEFAULT, HEADLESS, LEAN).contains(profile)) {
+            throw new IllegalArgumentException("Unknown browser.profile: " + profile
+                    + " (expected default, headless or lean)");
+        }
+        if (!DEFAULT.equals(profile)) {
+            options.addArguments("--headless=new", "--window-size=1366,768", "--disable-gpu");
+        }
+        if (LEAN.equals(profile)) {
+            options.addArguments(
+                    "--disable-extensions",
+                    "--disable-background-networking",
+                    "--disable-component-update",
+                    "--disable-default-apps",
+                    "--disable-sync",
+                    "--no-first-run",
+                    "--blink-settings=imagesEnabled=false");
+            options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+            if (userDataDir != null) options.addArguments("--user-data-dir=" + userDataDir);
+        }
+        return options;
+    }
+
+    /** Quit a session and remove its profile dir, if it had one. */
+    public static void quit(WebDriver driver) {
+        if (driver instanceof WrapsDriver) driver = ((WrapsDriver) driver).getWrappedDriver();
+        try {
+            driver.quit();
+        } catch (Exception ignored) {
+        } finally {
+            Path dir = userDataDirs.remove(driver);
+            if (dir != null) deleteRecursively(dir);
+        }
+    }
+
+    /** A fresh dir under browser.user.data.root (default /dev/shm, else the temp dir). */
+    private static Path createUserDataDir() {
+        Path shm = Paths.get("/dev/shm");
+        String root = TestConfig.get("browser.user.data.root",
+                Files.isDirectory(shm) ? shm.toString() : System.getProperty("java.io.tmpdir"));
+        try {
+            Path base = Files.createDirectories(Paths.get(root, "selenium-chrome"));
+            return Files.createTempDirectory(base, "session-");
+        } catch (IOException e) {
+            System.err.println("BrowserOptions: no user-data dir under " + root + ", using Chrome's default: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void deleteRecursively(Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        } catch (IOException e) {
+            System.err.println("BrowserOptions: could not delete " + dir + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares browser.profile options: time to start a session, time to load
+ * the home page with its products, and resident memory of the browser
+ * processes afterwards (Linux only; read from /proc).
+ *
+ * Not part of the normal run. Enable with e.g.
+ *   mvn test -Dtest=BrowserProfileBench -Dbench.profiles=default,headless,lean -Dbench.runs=5
+ * Results are printed and written to run.output.dir/browser-profiles.csv.
+ */
+@EnabledIfSystemProperty(named = "bench.profiles", matches = ".+")
+public class BrowserProfileBench {
+
+    @Test
+    @DisplayName("Startup time and memory per browser profile")
+    void compareProfiles() throws IOException {
+        String[] profiles = System.getProperty("bench.profiles").split(",");
+        int runs = TestConfig.getInt("bench.runs", 3);
+        String url = TestConfig.baseUrl();
+
+        List<String> rows = new ArrayList<>();
+        rows.add("profile,run,startup_ms,first_load_ms,rss_mb");
+        System.out.printf("%-10s %12s %14s %10s%n", "profile", "startup ms", "first load ms", "RSS MB");
+        for (String raw : profiles) {
+            String profile = raw.trim().toLowerCase();
+            long startupTotal = 0, loadTotal = 0, rssTotal = 0;
+            for (int run = 1; run <= runs; run++) {
+                long t0 = System.nanoTime();
+                WebDriver driver = BrowserOptions.newDriver(profile);
+                long t1 = System.nanoTime();
+                try {
+                    driver.get(url);
+                    new FastWait(driver, Duration.ofSeconds(20))
+                            .until(ExpectedConditions.visibilityOfElementLocated(By.cssSelector(".hrefch")));
+                    long t2 = System.nanoTime();
+                    long rss = browserRssKb();
+                    long startupMs = (t1 - t0) / 1_000_000, loadMs = (t2 - t1) / 1_000_000;
+                    rows.add(profile + "," + run + "," + startupMs + "," + loadMs + "," + rss / 1024);
+                    startupTotal += startupMs;
+                    loadTotal += loadMs;
+                    rssTotal += rss;
+                } finally {
+                    BrowserOptions.quit(driver);
+                }
+            }
+            System.out.printf("%-10s %12d %14d %10d%n", profile,
+                    startupTotal / runs, loadTotal / runs, rssTotal / runs / 1024);
+        }
+
+        Path out = Paths.get(TestConfig.get("run.output.dir", "run-results"), "browser-profiles.csv");
+        Files.createDirectories(out.getParent());
+        Files.write(out, rows);
+        System.out.println("Wrote " + out.toAbsolutePath());
+    }
+
+    /** Sum of VmRSS over every process this JVM started (chromedriver, Chrome and its helpers). */
+    private static long browserRssKb() {
+        return ProcessHandle.current().descendants().mapToLong(p -> {
+            try {
+                for (String line : Files.readAllLines(Paths.get("/proc", String.valueOf(p.pid()), "status"))) {
+                    if (line.startsWith("VmRSS:")) {
+                        return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                    }
+                }
+            } catch (IOException | RuntimeException ignored) {
+                // process exited, or not Linux
+            }
+            return 0;
+        }).sum();
+    }
+}
@@ -0,0 +1,55 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+
+/** cart.html: product rows, total and the "Place Order" button. */
+public class CartPage extends BasePage {
+    static final By ROWS = By.cssSelector("#tbodyid > tr");
+    static final By DELETE_LINKS = By.cssSelector("#tbodyid > tr a");
+    static final By PLACE_ORDER = By.cssSelector("button[data-target='#orderModal']");
+
+    private final LazyElement placeOrder = element(PLACE_ORDER);
+
+    public CartPage(WebDriver driver, WebDriverWait wait) {
+        super(driver, wait);
+    }
+
+    public CartPage open() {
+        navigate(TestConfig.baseUrl() + "/cart.html");
+        return this;
+    }
+
+    /** Wait up to timeoutSec for at least one row; false if the cart stays empty. */
+    public boolean waitForRows(int timeoutSec) {
+        try {
+            new FastWait(driver, Duration.ofSeconds(timeoutSec))
+                    .until(ExpectedConditions.numberOfElementsToBeMoreThan(ROWS, 0));
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    public int rowCount() {
+        return driver.findElements(ROWS).size();
+    }
+
+    public void deleteFirst() {
+        wait.until(ExpectedConditions.elementToBeClickable(DELETE_LINKS)).click();
+    }
+
+    public void waitUntilEmpty() {
+        wait.until(ExpectedConditions.numberOfElementsToBe(ROWS, 0));
+    }
+
+    public OrderModal placeOrder() {
+        placeOrder.waitClickable(wait).click();
+        return new OrderModal(driver, wait).waitOpen();
+    }
+}
@@ -0,0 +1,243 @@
+package com.Abdul_Raqeeb.selenium;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Ready-made demoblaze accounts for tests that need to log in.
+ *
+ * A test leases a user for exclusive use and hands it back afterwards
+ * ({@link BaseTest#leaseUser()} does both). Accounts are signed up through
+ * the API in bulk, credentials.pool.size at a time and in parallel, only
+ * when no free one is left, and are kept for later runs in
+ * credentials.pool.dir/&lt;api host&gt;/users.txt (appended under a file lock).
+ *
+ * A lease is a file, leases/&lt;user&gt;, created atomically, so leases are
+ * exclusive across threads and across JVMs (parallel forks) without a
+ * lock. A lease left by a crashed run is taken over once its process is
+ * gone (pid and process start time no longer match); only when the start
+ * time can't be read is a lease older than credentials.lease.ttl.minutes
+ * taken over instead. Takeovers hold a file lock (leases.lock), so two
+ * forks never both take over the same lease.
+ *
+ * Against the local stand-in (base.url=local) accounts only live as long as
+ * the JVM, so the pool is kept in a temp dir that is not reused.
+ */
+public class CredentialPool {
+    public record Lease(String username, String password) {}
+
+    private static CredentialPool shared;
+    // FileLock is held per process; this lets one thread at a time in this JVM try to take it
+    private static final Object TAKEOVER = new Object();
+
+    private final DemoblazeApi api;
+    private final Path dir;
+    private final int batchSize;
+    private final Duration leaseTtl;
+    private final Set<String> mine = new HashSet<>();
+
+    public CredentialPool(DemoblazeApi api, Path dir, int batchSize, Duration leaseTtl) {
+        this.api = api;
+        this.dir = dir;
+        this.batchSize = Math.max(1, batchSize);
+        this.leaseTtl = leaseTtl;
+    }
+
+    public static synchronized CredentialPool shared() {
+        if (shared == null) {
+            Path dir;
+            try {
+                if (TestConfig.get("base.url", "").equalsIgnoreCase("local")) {
+                    dir = Files.createTempDirectory("credential-pool");
+                } else {
+                    String host = URI.create(TestConfig.apiUrl()).getHost();
+                    dir = Paths.get(TestConfig.get("credentials.pool.dir",
+                            Paths.get(TestConfig.get("run.output.dir", "run-results"), "credential-pool").toString()), host);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            shared = new CredentialPool(DemoblazeApi.fromConfig(), dir,
+                    TestConfig.getInt("credentials.pool.size", 4),
+                    Duration.ofMinutes(TestConfig.getInt("credentials.lease.ttl.minutes", 60)));
+        }
+        return shared;
+    }
+
+    /** Lease a free account, signing up a new batch first if every account is taken. */
+    public synchronized Lease lease() {
+        Lease lease = tryLease();
+        if (lease != null) return lease;
+        provision(batchSize);
+        lease = tryLease();
+        if (lease == null) throw new IllegalStateException("No free account in " + dir + " after provisioning");
+        return lease;
+    }
+
+    /** Give a leased account back. */
+    public synchronized void release(Lease lease) {
+        if (lease == null || !mine.remove(lease.username())) return;
+        try {
+            Files.deleteIfExists(leaseFile(lease.username()));
+        } catch (IOException e) {
+            System.err.println("CredentialPool: could not release " + lease.username() + ": " + e.getMessage());
+        }
+    }
+
+    /** Sign up n new accounts in parallel and add them to the pool. */
+    public void provision(int n) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(n, 8));
+        try {
+            List<Future<String[]>> created = new ArrayList<>();
+            for (int i = 0; i < n; i++) created.add(executor.submit(api::createUser));
+            Map<String, String> users = new LinkedHashMap<>();
+            for (Future<String[]> f : created) {
+                try {
+                    String[] user = f.get();
+                    users.put(user[0], user[1]);
+                } catch (Exception e) {
+                    System.err.println("CredentialPool: sign-up failed: " + e.getMessage());
+                }
+            }
+            users.forEach(this::add);
+            System.out.println("CredentialPool: provisioned " + users.size() + " account(s) in " + dir);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /** Add an existing account (e.g. one a sign-up test just created). */
+    public void add(String username, String password) {
+        try {
+            Files.createDirectories(dir);
+            try (FileChannel channel = FileChannel.open(dir.resolve("users.txt"), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                FileLock lock = channel.lock();
+                try {
+                    channel.write(StandardCharsets.UTF_8.encode(username + ":" + password + "\n"));
+                } finally {
+                    lock.release();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Lease tryLease() {
+        for (Map.Entry<String, String> user : users().entrySet()) {
+            if (acquire(user.getKey())) {
+                mine.add(user.getKey());
+                return new Lease(user.getKey(), user.getValue());
+            }
+        }
+        return null;
+    }
+
+    private boolean acquire(String username) {
+        Path file = leaseFile(username);
+        try {
+            Files.createDirectories(file.getParent());
+            return create(file) || (isStale(file) && takeOver(file));
+        } catch (IOException e) {
+            System.err.println("CredentialPool: could not lease " + username + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /** Create the lease file for this process; false if it exists. Content: pid, process start (or -1), lease time. */
+    private static boolean create(Path file) throws IOException {
+        try {
+            Files.writeString(file, ProcessHandle.current().pid() + " " + startMillis(ProcessHandle.current())
+                            + " " + System.currentTimeMillis(),
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return false;
+        }
+    }
+
+    /** Replace a stale lease with ours; the check is repeated under the lock, as another fork may have won. */
+    private boolean takeOver(Path file) throws IOException {
+        synchronized (TAKEOVER) {
+            try (FileChannel channel = FileChannel.open(dir.resolve("leases.lock"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock();
+                try {
+                    if (!isStale(file)) return false;
+                    Files.deleteIfExists(file);
+                    return create(file);
+                } finally {
+                    lock.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * A lease whose process has exited. The process start time tells a
+     * reused pid apart; where it is unknown, a lease older than the TTL.
+     */
+    private boolean isStale(Path file) {
+        try {
+            String[] parts = Files.readString(file).trim().split(" ");
+            long pid = Long.parseLong(parts[0]);
+            // older leases have no start time: pid and lease time only
+            long started = parts.length > 2 ? Long.parseLong(parts[1]) : -1;
+            long since = Long.parseLong(parts[parts.length - 1]);
+            if (pid == ProcessHandle.current().pid()) return false;
+            Optional<ProcessHandle> owner = ProcessHandle.of(pid);
+            if (owner.isEmpty()) return true;
+            long running = startMillis(owner.get());
+            if (started >= 0 && running >= 0) return started != running;
+            return System.currentTimeMillis() - since > leaseTtl.toMillis();
+        } catch (IOException | RuntimeException e) {
+            // being written right now, or gone already
+            return false;
+        }
+    }
+
+    private static long startMillis(ProcessHandle process) {
+        return process.info().startInstant().map(Instant::toEpochMilli).orElse(-1L);
+    }
+
+    private Map<String, String> users() {
+        Map<String, String> users = new LinkedHashMap<>();
+        Path file = dir.resolve("users.txt");
+        if (!Files.exists(file)) return users;
+        try {
+            for (String line : Files.readAllLines(file)) {
+                String[] parts = line.split(":", 2);
+                if (parts.length == 2 && !parts[0].isBlank()) users.put(parts[0].trim(), parts[1]);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return users;
+    }
+
+    private Path leaseFile(String username) {
+        return dir.resolve("leases").resolve(username.replaceAll("[^A-Za-z0-9_.-]", "_"));
+    }
+}
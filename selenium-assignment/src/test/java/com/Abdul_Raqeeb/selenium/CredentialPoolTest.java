@@ -0,0 +1,135 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Leases accounts from {@link CredentialPool} against the local demoblaze stand-in. */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class CredentialPoolTest {
+    private DemoblazeServer server;
+    private DemoblazeApi api;
+
+    @TempDir
+    Path dir;
+
+    @BeforeAll
+    void start() throws Exception {
+        server = new DemoblazeServer(0);
+        api = new DemoblazeApi(server.url());
+    }
+
+    @AfterAll
+    void stop() {
+        server.stop();
+    }
+
+    @Test
+    @DisplayName("Concurrent leases never share an account, and the accounts can log in")
+    void concurrentLeasesAreExclusive() throws Exception {
+        CredentialPool pool = new CredentialPool(api, dir, 3, Duration.ofMinutes(60));
+        Set<String> leased = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService workers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<CredentialPool.Lease>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(workers.submit(() -> {
+                    start.await();
+                    CredentialPool.Lease lease = pool.lease();
+                    assertTrue(leased.add(lease.username()), "leased twice: " + lease.username());
+                    return lease;
+                }));
+            }
+            start.countDown();
+            for (Future<CredentialPool.Lease> f : futures) {
+                CredentialPool.Lease lease = f.get(30, TimeUnit.SECONDS);
+                assertFalse(api.logIn(lease.username(), lease.password()).isBlank());
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        assertEquals(8, leased.size());
+        // provisioned in batches of 3
+        assertEquals(9, Files.readAllLines(dir.resolve("users.txt")).size());
+    }
+
+    @Test
+    @DisplayName("Released accounts are reused, stale leases taken over")
+    void reuseAndStaleLeases() throws Exception {
+        CredentialPool pool = new CredentialPool(api, dir, 1, Duration.ofMinutes(60));
+        CredentialPool.Lease first = pool.lease();
+        pool.release(first);
+        assertEquals(first, pool.lease());
+        assertEquals(1, Files.readAllLines(dir.resolve("users.txt")).size());
+
+        // another pool (another JVM) cannot take it while it is leased ...
+        CredentialPool other = new CredentialPool(api, dir, 1, Duration.ofMinutes(60));
+        assertNotEquals(first.username(), other.lease().username());
+
+        // ... but takes over a lease whose process is gone
+        Path leaseFile = dir.resolve("leases").resolve(first.username());
+        Files.writeString(leaseFile, Long.MAX_VALUE + " " + System.currentTimeMillis());
+        assertEquals(first, other.lease());
+    }
+
+    @Test
+    @DisplayName("Two pools taking over the same stale lease at once: only one gets it")
+    void concurrentTakeover() throws Exception {
+        CredentialPool a = new CredentialPool(api, dir, 1, Duration.ofMinutes(60));
+        CredentialPool b = new CredentialPool(api, dir, 1, Duration.ofMinutes(60));
+        CredentialPool.Lease contested = a.lease();
+        a.release(contested);
+        Path leaseFile = dir.resolve("leases").resolve(contested.username());
+        ExecutorService workers = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 20; round++) {
+                // left behind by a process that is gone
+                Files.writeString(leaseFile, Long.MAX_VALUE + " " + System.currentTimeMillis());
+                CountDownLatch start = new CountDownLatch(1);
+                Future<CredentialPool.Lease> fa = workers.submit(() -> { start.await(); return a.lease(); });
+                Future<CredentialPool.Lease> fb = workers.submit(() -> { start.await(); return b.lease(); });
+                start.countDown();
+                CredentialPool.Lease la = fa.get(30, TimeUnit.SECONDS), lb = fb.get(30, TimeUnit.SECONDS);
+                assertNotEquals(la.username(), lb.username(), "round " + round);
+                assertTrue(la.equals(contested) || lb.equals(contested), "round " + round);
+                a.release(la);
+                b.release(lb);
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("A live process keeps its lease past the TTL")
+    void liveLeaseOutlivesTtl() throws Exception {
+        CredentialPool pool = new CredentialPool(api, dir, 1, Duration.ZERO);
+        CredentialPool.Lease held = pool.lease();
+        // the parent of this JVM (maven) is alive and stays so for the test
+        ProcessHandle parent = ProcessHandle.current().parent().orElseThrow();
+        long started = parent.info().startInstant().orElseThrow().toEpochMilli();
+        Files.writeString(dir.resolve("leases").resolve(held.username()), parent.pid() + " " + started + " 0");
+
+        CredentialPool other = new CredentialPool(api, dir, 1, Duration.ZERO);
+        assertNotEquals(held.username(), other.lease().username());
+    }
+}
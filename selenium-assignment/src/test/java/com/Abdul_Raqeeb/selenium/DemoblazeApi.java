@@ -0,0 +1,117 @@
+package com.Abdul_Raqeeb.selenium;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Direct calls to the demoblaze backend (api.demoblaze.com, or the local
+ * {@link DemoblazeServer}) for setting up state without the UI: creating
+ * users, logging in and filling carts. Requests and answers use the same
+ * shapes as the site's own scripts, including base64-encoded passwords.
+ */
+public class DemoblazeApi {
+    /** Cookie holding the login token on the front-end. */
+    public static final String TOKEN_COOKIE = "tokenp_";
+    /** Cookie holding the anonymous visitor id that owns a logged-out cart. */
+    public static final String USER_COOKIE = "user";
+
+    private static final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final String apiUrl;
+
+    public DemoblazeApi(String apiUrl) {
+        this.apiUrl = apiUrl;
+    }
+
+    /** Client for the configured backend (see {@link TestConfig#apiUrl()}). */
+    public static DemoblazeApi fromConfig() {
+        return new DemoblazeApi(TestConfig.apiUrl());
+    }
+
+    /** Register a user; returns false if the name is already taken. */
+    public boolean signUp(String username, String password) {
+        JsonNode res = post("/signup", Map.of("username", username, "password", encode(password)));
+        if (res.has("errorMessage")) {
+            if (res.get("errorMessage").asText().contains("exist")) return false;
+            throw new IllegalStateException("Sign up failed: " + res.get("errorMessage").asText());
+        }
+        return true;
+    }
+
+    /** Create a fresh user with a unique name; returns {username, password}. */
+    public String[] createUser() {
+        String username = "qa_user_" + System.currentTimeMillis() + "_" + UUID.randomUUID().toString().substring(0, 8);
+        String password = "Pass123!";
+        signUp(username, password);
+        return new String[]{username, password};
+    }
+
+    /** Log in and return the session token the front-end keeps in the tokenp_ cookie. */
+    public String logIn(String username, String password) {
+        JsonNode res = post("/login", Map.of("username", username, "password", encode(password)));
+        if (res.has("errorMessage")) {
+            throw new IllegalStateException("Login failed for " + username + ": " + res.get("errorMessage").asText());
+        }
+        return res.asText().replace("Auth_token: ", "");
+    }
+
+    /** User a login token belongs to, or null if the site no longer accepts it. */
+    public String check(String token) {
+        JsonNode res = post("/check", Map.of("token", token));
+        return res.has("errorMessage") ? null : res.path("Item").path("username").asText(null);
+    }
+
+    /**
+     * Put a product in a cart. {@code owner} is a login token when
+     * {@code loggedIn}, otherwise the anonymous user cookie value.
+     */
+    public void addToCart(String owner, int productId, boolean loggedIn) {
+        post("/addtocart", Map.of("id", UUID.randomUUID().toString(), "cookie", owner,
+                "prod_id", productId, "flag", loggedIn));
+    }
+
+    /** Number of items in a cart (same owner rules as {@link #addToCart}). */
+    public int cartSize(String owner, boolean loggedIn) {
+        return post("/viewcart", Map.of("cookie", owner, "flag", loggedIn)).path("Items").size();
+    }
+
+    private JsonNode post(String path, Map<String, Object> body) {
+        ImpactMap.touch(ImpactMap.ENDPOINT, path);
+        try {
+            HttpRequest req = HttpRequest.newBuilder(URI.create(apiUrl + path))
+                    .timeout(Duration.ofSeconds(15))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body)))
+                    .build();
+            HttpResponse<byte[]> resp = http.send(req, HttpResponse.BodyHandlers.ofByteArray());
+            if (resp.statusCode() != 200) {
+                throw new IllegalStateException("POST " + path + " returned HTTP " + resp.statusCode());
+            }
+            return resp.body().length == 0 ? mapper.createObjectNode() : mapper.readTree(resp.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(String password) {
+        return Base64.getEncoder().encodeToString(password.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,257 @@
+package com.Abdul_Raqeeb.selenium;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+/**
+ * In-JVM stand-in for www.demoblaze.com and api.demoblaze.com.
+ *
+ * Serves replicas of index.html, prod.html and cart.html (from
+ * src/test/resources/demoblaze) with the same element ids, texts and alerts
+ * the tests rely on, plus the JSON endpoints those pages call: /entries,
+ * /bycat, /view, /addtocart, /viewcart, /deleteitem, /deletecart, /signup,
+ * /login and /check. Users, sessions and carts live in memory.
+ *
+ * Run the suite against it with -Dbase.url=local; {@link TestConfig#baseUrl()}
+ * then starts one shared instance per JVM.
+ */
+public class DemoblazeServer {
+    private static final String RESOURCES = "/demoblaze/";
+    private static final ObjectMapper mapper = new ObjectMapper();
+    // 1x1 transparent PNG, served for every product image
+    private static final byte[] PIXEL = Base64.getDecoder().decode(
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAQAAAC1HAwCAAAAC0lEQVR42mNkYAAAAAYAAjCB0C8AAAAASUVORK5CYII=");
+    private static DemoblazeServer shared;
+
+    static {
+        // without this every small response waits on Nagle's algorithm
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final List<JsonNode> products = new ArrayList<>();
+    private final Map<String, byte[]> pages = new HashMap<>();
+    private final Map<String, String> users = new ConcurrentHashMap<>();   // username -> base64 password
+    private final Map<String, String> tokens = new ConcurrentHashMap<>();  // token -> username
+    private final Map<String, CartItem> cart = new LinkedHashMap<>();      // item id -> item, guarded by itself
+
+    private record CartItem(String id, String cookie, int prodId) {}
+
+    public DemoblazeServer(int port) throws IOException {
+        try (InputStream in = resource("entries.json")) {
+            mapper.readTree(in).forEach(products::add);
+        }
+        String nav = new String(readResource("nav.html"), StandardCharsets.UTF_8);
+        for (String page : List.of("index.html", "prod.html", "cart.html")) {
+            String html = new String(readResource(page), StandardCharsets.UTF_8)
+                    .replace("<!--#include nav.html-->", nav);
+            pages.put("/" + page, html.getBytes(StandardCharsets.UTF_8));
+        }
+        pages.put("/demoblaze.js", readResource("demoblaze.js"));
+        pages.put("/style.css", readResource("style.css"));
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "demoblaze-server");
+            t.setDaemon(true);
+            return t;
+        }));
+        server.start();
+    }
+
+    /** One server per JVM, started on first use (port from local.port, default: any free port). */
+    public static synchronized DemoblazeServer shared() {
+        if (shared == null) {
+            try {
+                shared = new DemoblazeServer(TestConfig.getInt("local.port", 0));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not start local demoblaze server", e);
+            }
+            DemoblazeServer instance = shared;
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::stop, "demoblaze-server-shutdown"));
+            System.out.println("DemoblazeServer: serving " + shared.url());
+        }
+        return shared;
+    }
+
+    /** Base URL without trailing slash, e.g. http://127.0.0.1:53124 */
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void stop() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange ex) throws IOException {
+        try {
+            String path = ex.getRequestURI().getPath();
+            if (path.equals("/")) path = "/index.html";
+
+            byte[] page = pages.get(path);
+            if (page != null) {
+                send(ex, 200, contentType(path), page);
+            } else if (path.startsWith("/imgs/")) {
+                send(ex, 200, "image/png", PIXEL);
+            } else if ("POST".equals(ex.getRequestMethod()) || path.equals("/entries")) {
+                JsonNode body = readBody(ex);
+                Object result = api(path, body);
+                if (result == null) {
+                    send(ex, 404, "text/plain", "Not found".getBytes(StandardCharsets.UTF_8));
+                } else {
+                    send(ex, 200, "application/json", mapper.writeValueAsBytes(result));
+                }
+            } else {
+                send(ex, 404, "text/plain", "Not found".getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (Exception e) {
+            send(ex, 500, "text/plain", String.valueOf(e.getMessage()).getBytes(StandardCharsets.UTF_8));
+        } finally {
+            ex.close();
+        }
+    }
+
+    /** Answers in the same shapes as api.demoblaze.com; null means unknown endpoint. */
+    private Object api(String path, JsonNode body) {
+        switch (path) {
+            case "/entries":
+                return Map.of("Items", products, "LastEvaluatedKey", Map.of("id", String.valueOf(products.size())));
+            case "/bycat": {
+                List<JsonNode> items = new ArrayList<>();
+                for (JsonNode p : products) {
+                    if (p.get("cat").asText().equals(body.path("cat").asText())) items.add(p);
+                }
+                return Map.of("Items", items);
+            }
+            case "/view": {
+                JsonNode p = product(body.path("id").asInt());
+                return p != null ? p : Map.of("errorMessage", "Product not found.");
+            }
+            case "/signup": {
+                String username = body.path("username").asText();
+                if (username.isEmpty()) return Map.of("errorMessage", "Please fill out Username and Password.");
+                if (users.putIfAbsent(username, body.path("password").asText()) != null) {
+                    return Map.of("errorMessage", "This user already exist.");
+                }
+                return "";
+            }
+            case "/login": {
+                String username = body.path("username").asText();
+                String password = users.get(username);
+                if (password == null) return Map.of("errorMessage", "User does not exist.");
+                if (!password.equals(body.path("password").asText())) return Map.of("errorMessage", "Wrong password.");
+                String token = Base64.getEncoder().encodeToString(
+                        (username + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8));
+                tokens.put(token, username);
+                return "Auth_token: " + token;
+            }
+            case "/check": {
+                String username = tokens.get(body.path("token").asText());
+                if (username == null) return Map.of("errorMessage", "Token has expired.");
+                return Map.of("Item", Map.of("token", body.path("token").asText(), "username", username));
+            }
+            case "/addtocart": {
+                CartItem item = new CartItem(body.path("id").asText(UUID.randomUUID().toString()),
+                        owner(body), body.path("prod_id").asInt());
+                synchronized (cart) {
+                    cart.put(item.id(), item);
+                }
+                return "";
+            }
+            case "/viewcart": {
+                String owner = owner(body);
+                List<Map<String, Object>> items = new ArrayList<>();
+                synchronized (cart) {
+                    for (CartItem item : cart.values()) {
+                        if (item.cookie().equals(owner)) {
+                            items.add(Map.of("cookie", item.cookie(), "id", item.id(), "prod_id", item.prodId()));
+                        }
+                    }
+                }
+                return Map.of("Items", items);
+            }
+            case "/deleteitem":
+                synchronized (cart) {
+                    cart.remove(body.path("id").asText());
+                }
+                return "";
+            case "/deletecart": {
+                String owner = owner(body);
+                synchronized (cart) {
+                    cart.values().removeIf(item -> item.cookie().equals(owner));
+                }
+                return "";
+            }
+            default:
+                return null;
+        }
+    }
+
+    /** Logged-in carts are keyed by username (token changes per login), anonymous ones by the user cookie. */
+    private String owner(JsonNode body) {
+        String cookie = body.path("cookie").asText();
+        String username = tokens.get(cookie);
+        return username != null ? "user:" + username : cookie;
+    }
+
+    private JsonNode product(int id) {
+        for (JsonNode p : products) {
+            if (p.get("id").asInt() == id) return p;
+        }
+        return null;
+    }
+
+    private static JsonNode readBody(HttpExchange ex) throws IOException {
+        byte[] bytes = ex.getRequestBody().readAllBytes();
+        return bytes.length == 0 ? mapper.createObjectNode() : mapper.readTree(bytes);
+    }
+
+    private static void send(HttpExchange ex, int status, String contentType, byte[] body) throws IOException {
+        ex.getResponseHeaders().set("Content-Type", contentType);
+        ex.getResponseHeaders().set("Access-Control-Allow-Origin", "*");
+        ex.sendResponseHeaders(status, body.length);
+        try (OutputStream os = ex.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    private static String contentType(String path) {
+        if (path.endsWith(".html")) return "text/html; charset=utf-8";
+        if (path.endsWith(".js")) return "application/javascript";
+        if (path.endsWith(".css")) return "text/css";
+        return "application/octet-stream";
+    }
+
+    private static InputStream resource(String name) throws IOException {
+        InputStream in = DemoblazeServer.class.getResourceAsStream(RESOURCES + name);
+        if (in == null) throw new IOException("Missing resource " + RESOURCES + name);
+        return in;
+    }
+
+    private static byte[] readResource(String name) throws IOException {
+        try (InputStream in = resource(name)) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.Abdul_Raqeeb.selenium;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Checks the JSON endpoints of the local demoblaze stand-in without a browser. */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class DemoblazeServerTest {
+    private final HttpClient http = HttpClient.newHttpClient();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private DemoblazeServer server;
+
+    @BeforeAll
+    void start() throws Exception {
+        server = new DemoblazeServer(0);
+    }
+
+    @AfterAll
+    void stop() {
+        server.stop();
+    }
+
+    private JsonNode post(String path, String json) throws Exception {
+        HttpRequest req = HttpRequest.newBuilder(URI.create(server.url() + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        HttpResponse<String> resp = http.send(req, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, resp.statusCode(), path);
+        return mapper.readTree(resp.body());
+    }
+
+    @Test
+    @DisplayName("Catalog endpoints return products by category and id")
+    void catalog() throws Exception {
+        assertTrue(post("/entries", "{}").get("Items").size() > 0);
+        JsonNode laptops = post("/bycat", "{\"cat\":\"notebook\"}").get("Items");
+        assertTrue(laptops.size() > 0);
+        laptops.forEach(p -> assertEquals("notebook", p.get("cat").asText()));
+        assertEquals("Samsung galaxy s6", post("/view", "{\"id\":\"1\"}").get("title").asText());
+    }
+
+    @Test
+    @DisplayName("Sign up, log in with the token and keep a cart")
+    void accountAndCart() throws Exception {
+        String password = Base64.getEncoder().encodeToString("Pass123!".getBytes());
+        String user = "{\"username\":\"qa_server_test\",\"password\":\"" + password + "\"}";
+        post("/signup", user);
+        assertEquals("This user already exist.", post("/signup", user).get("errorMessage").asText());
+        assertEquals("Wrong password.",
+                post("/login", "{\"username\":\"qa_server_test\",\"password\":\"x\"}").get("errorMessage").asText());
+
+        String token = post("/login", user).asText().replace("Auth_token: ", "");
+        assertEquals("qa_server_test", post("/check", "{\"token\":\"" + token + "\"}").at("/Item/username").asText());
+
+        post("/addtocart", "{\"id\":\"item-1\",\"cookie\":\"" + token + "\",\"prod_id\":1,\"flag\":true}");
+        assertEquals(1, post("/viewcart", "{\"cookie\":\"" + token + "\",\"flag\":true}").get("Items").size());
+        post("/deleteitem", "{\"id\":\"item-1\"}");
+        assertEquals(0, post("/viewcart", "{\"cookie\":\"" + token + "\",\"flag\":true}").get("Items").size());
+    }
+}
@@ -0,0 +1,223 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.events.ConsoleEvent;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flight recorder for one browser session: the last diagnostics.buffer
+ * WebDriver commands, console messages / uncaught JavaScript errors (CDP)
+ * and requests seen by {@link RequestFilters}, each in a {@link RingBuffer}.
+ *
+ * Recording only stores small records in memory; nothing is formatted or
+ * written unless a test fails, when {@link DiagnosticsExtension} calls
+ * {@link #dump} to write the buffers, the page's resource timings and a DOM
+ * snapshot to diagnostics.dir/&lt;test&gt;/. Buffers are cleared each time
+ * the session is checked out of {@link DriverPool}.
+ */
+public class Diagnostics implements WebDriverListener {
+    /** Response attribute a network filter can set to explain something that went wrong; shown in the network log. */
+    public static final String NOTE = "diagnostics.note";
+    private static final Map<WebDriver, Diagnostics> sessions = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /** One WebDriver call; formatted only when dumped. */
+    private record Command(long at, String target, String method, Object[] args, long nanos, Throwable error) {}
+
+    private final RingBuffer<Command> commands;
+    private final RingBuffer<String> console;
+    private final RingBuffer<String> network;
+    private final ThreadLocal<Deque<Long>> starts = ThreadLocal.withInitial(ArrayDeque::new);
+
+    Diagnostics(int capacity) {
+        commands = new RingBuffer<>(capacity);
+        console = new RingBuffer<>(capacity);
+        network = new RingBuffer<>(capacity);
+    }
+
+    /** A recorder for a new session, listening to its console when it has DevTools; null if diagnostics.enabled=false. */
+    public static Diagnostics start(WebDriver driver) {
+        if (!TestConfig.getBoolean("diagnostics.enabled", true)) return null;
+        Diagnostics diagnostics = new Diagnostics(Math.max(1, TestConfig.getInt("diagnostics.buffer", 200)));
+        if (driver instanceof HasDevTools) {
+            try {
+                DevTools devTools = ((HasDevTools) driver).getDevTools();
+                devTools.createSessionIfThereIsNotOne();
+                devTools.getDomains().events().addConsoleListener(diagnostics::onConsole);
+                devTools.getDomains().events().addJavascriptExceptionListener(
+                        e -> diagnostics.console.add(time(System.currentTimeMillis()) + " [exception] " + e.getMessage()));
+            } catch (WebDriverException e) {
+                System.err.println("Diagnostics: console capture unavailable: " + e.getMessage());
+            }
+        }
+        return diagnostics;
+    }
+
+    /** Associate a recorder with the driver the tests use (the decorated one). */
+    public static void register(WebDriver driver, Diagnostics diagnostics) {
+        sessions.put(driver, diagnostics);
+    }
+
+    public static void forget(WebDriver driver) {
+        sessions.remove(driver);
+    }
+
+    /** The recorder for a driver, or null. */
+    public static Diagnostics of(WebDriver driver) {
+        return driver == null ? null : sessions.get(driver);
+    }
+
+    public void clear() {
+        commands.clear();
+        console.clear();
+        network.clear();
+    }
+
+    /** Outermost network filter: records method, URL, status and time of every intercepted request. */
+    public Filter networkFilter() {
+        return next -> req -> {
+            long start = System.nanoTime();
+            long at = System.currentTimeMillis();
+            try {
+                HttpResponse res = next.execute(req);
+                Object note = res.getAttribute(NOTE);
+                network.add(time(at) + " " + req.getMethod() + " " + req.getUri() + " -> " + res.getStatus()
+                        + " (" + (System.nanoTime() - start) / 1_000_000 + " ms)" + (note == null ? "" : " !! " + note));
+                return res;
+            } catch (RuntimeException e) {
+                network.add(time(at) + " " + req.getMethod() + " " + req.getUri() + " -> " + e);
+                throw e;
+            }
+        };
+    }
+
+    private void onConsole(ConsoleEvent event) {
+        Instant at = event.getTimestamp();
+        console.add(time(at == null ? System.currentTimeMillis() : at.toEpochMilli())
+                + " [" + event.getType() + "] " + String.join(" ", event.getMessages()));
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        starts.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        stop(target, method, args, null);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        stop(target, method, args, e.getCause());
+    }
+
+    private void stop(Object target, Method method, Object[] args, Throwable error) {
+        Long start = starts.get().poll();
+        long nanos = start == null ? 0 : System.nanoTime() - start;
+        commands.add(new Command(System.currentTimeMillis(), StepTimer.category(target), method.getName(),
+                args == null ? null : args.clone(), nanos, error));
+    }
+
+    /** Write everything recorded plus a DOM snapshot to diagnostics.dir/name/; returns the directory. */
+    public Path dump(WebDriver driver, String name) throws IOException {
+        return dump(driver, Paths.get(TestConfig.get("diagnostics.dir",
+                Paths.get(TestConfig.get("run.output.dir", "run-results"), "diagnostics").toString()),
+                name.replaceAll("[^A-Za-z0-9_.-]", "_")));
+    }
+
+    /** Like {@link #dump(WebDriver, String)}, into the given directory. */
+    Path dump(WebDriver driver, Path dir) throws IOException {
+        Files.createDirectories(dir);
+        // copy the buffers before the calls below add to them
+        List<Command> recent = commands.snapshot();
+        long droppedCommands = commands.dropped();
+
+        StringBuilder out = new StringBuilder();
+        String page = pageState(driver, dir, out);
+        out.append("\n== last ").append(recent.size()).append(" commands")
+                .append(droppedCommands > 0 ? " (" + droppedCommands + " older dropped)" : "").append('\n');
+        for (Command c : recent) {
+            out.append(time(c.at())).append(' ').append(c.target()).append('.').append(c.method())
+                    .append('(').append(describe(c.method(), c.args())).append(") ")
+                    .append(c.nanos() / 1_000_000).append(" ms");
+            if (c.error() != null) out.append(" !! ").append(firstLine(c.error().toString()));
+            out.append('\n');
+        }
+        section(out, "console", console);
+        section(out, "network", network);
+        out.append("\n== resource timing\n").append(page).append('\n');
+        Files.writeString(dir.resolve("diagnostics.txt"), out, StandardCharsets.UTF_8);
+        return dir;
+    }
+
+    /** URL, title and DOM (or the open alert, which blocks everything else); returns resource timings. */
+    private static String pageState(WebDriver driver, Path dir, StringBuilder out) throws IOException {
+        try {
+            out.append("url: ").append(driver.getCurrentUrl()).append('\n');
+            out.append("title: ").append(driver.getTitle()).append('\n');
+            Files.writeString(dir.resolve("dom.html"), driver.getPageSource(), StandardCharsets.UTF_8);
+            Object timings = ((JavascriptExecutor) driver).executeScript(
+                    "return performance.getEntriesByType('resource').map(function (e) {"
+                            + " return Math.round(e.startTime) + ' +' + Math.round(e.duration) + ' ms '"
+                            + " + e.initiatorType + ' ' + e.name + ' (' + (e.transferSize || 0) + ' B)'; }).join('\\n');");
+            return String.valueOf(timings);
+        } catch (WebDriverException e) {
+            try {
+                out.append("alert open: ").append(driver.switchTo().alert().getText()).append('\n');
+            } catch (WebDriverException ignored) {
+                out.append("page state unavailable: ").append(firstLine(e.getMessage())).append('\n');
+            }
+            return "(unavailable)";
+        }
+    }
+
+    private static void section(StringBuilder out, String title, RingBuffer<String> buffer) {
+        List<String> lines = buffer.snapshot();
+        out.append("\n== ").append(title).append(" (").append(lines.size()).append(')')
+                .append(buffer.dropped() > 0 ? " (" + buffer.dropped() + " older dropped)" : "").append('\n');
+        lines.forEach(line -> out.append(line).append('\n'));
+    }
+
+    private static String describe(String method, Object[] args) {
+        if (args == null || args.length == 0) return "";
+        // typed text may be a password
+        if (method.equals("sendKeys")) return "<" + String.join("", (CharSequence[]) args[0]).length() + " chars>";
+        String s = Arrays.deepToString(args);
+        s = s.substring(1, s.length() - 1);
+        return s.length() > 120 ? s.substring(0, 117) + "..." : s;
+    }
+
+    private static String firstLine(String s) {
+        if (s == null) return "";
+        int nl = s.indexOf('\n');
+        return nl < 0 ? s : s.substring(0, nl);
+    }
+
+    private static String time(long epochMillis) {
+        return LocalTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()).toString();
+    }
+}
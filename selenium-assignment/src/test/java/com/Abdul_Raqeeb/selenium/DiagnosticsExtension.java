@@ -0,0 +1,29 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+
+/**
+ * When a test fails, writes its browser's {@link Diagnostics} (recent
+ * commands, console, network, DOM) before the session is reset.
+ */
+public class DiagnosticsExtension implements AfterTestExecutionCallback {
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        if (context.getExecutionException().isEmpty()) return;
+        WebDriver driver = DriverPool.current();
+        Diagnostics diagnostics = Diagnostics.of(driver);
+        if (diagnostics == null) return;
+
+        String name = context.getRequiredTestClass().getSimpleName() + "." + context.getRequiredTestMethod().getName();
+        try {
+            System.out.println("Diagnostics for " + name + ": " + diagnostics.dump(driver, name));
+        } catch (IOException e) {
+            System.err.println("Diagnostics: could not write for " + name + ": " + e.getMessage());
+        }
+    }
+}
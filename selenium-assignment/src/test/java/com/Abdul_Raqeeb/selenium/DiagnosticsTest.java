@@ -0,0 +1,61 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** {@link RingBuffer} and the {@link Diagnostics} dump, with a fake driver. */
+public class DiagnosticsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("A full ring buffer keeps the newest items in order")
+    void ringBufferWraps() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(3);
+        buffer.add(1);
+        buffer.add(2);
+        assertEquals(List.of(1, 2), buffer.snapshot());
+        for (int i = 3; i <= 7; i++) buffer.add(i);
+        assertEquals(List.of(5, 6, 7), buffer.snapshot());
+        assertEquals(4, buffer.dropped());
+        buffer.clear();
+        assertEquals(List.of(), buffer.snapshot());
+    }
+
+    @Test
+    @DisplayName("Dump holds recent commands, errors and the DOM, without typed text")
+    void dump() throws IOException {
+        Diagnostics diagnostics = new Diagnostics(2);
+        WebDriver driver = new EventFiringDecorator<>(diagnostics).decorate(new FakeDriver()
+                .pageSource("<html><body>store</body></html>")
+                .onScript(script -> "0 +12 ms script http://localhost/index.js (100 B)"));
+        driver.get("http://localhost/one.html");
+        driver.get("http://localhost/two.html");
+        driver.findElement(By.id("password")).sendKeys("secret");
+        assertThrows(NoSuchElementException.class, () -> driver.findElement(By.id("missing")));
+
+        Path out = diagnostics.dump(driver, dir.resolve("LoginTest.testLogin"));
+        String text = Files.readString(out.resolve("diagnostics.txt"));
+        assertTrue(text.contains("url: http://localhost/two.html"), text);
+        assertTrue(text.contains("element.sendKeys(<6 chars>)"), text);
+        assertFalse(text.contains("secret"), text);
+        assertTrue(text.contains("driver.findElement(By.id: missing)") && text.contains("!! org.openqa.selenium.NoSuchElementException"), text);
+        assertFalse(text.contains("one.html"), "older commands should have been dropped");
+        assertTrue(text.contains("older dropped"), text);
+        assertTrue(text.contains("index.js (100 B)"), text);
+        assertEquals("<html><body>store</body></html>", Files.readString(out.resolve("dom.html")));
+    }
+}
@@ -0,0 +1,120 @@
+package com.Abdul_Raqeeb.selenium;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.Properties;
+
+/**
+ * Finds the chromedriver binary once and remembers it on disk.
+ *
+ * The first resolution goes through WebDriverManager (version lookup and,
+ * if needed, a download into driver.cache.dir) and writes a small manifest,
+ * chromedriver.properties, with the binary's path and version. Every later
+ * resolution, in this JVM or a later run, only checks that the manifest's
+ * file still exists and sets webdriver.chrome.driver.
+ *
+ * Resolve ahead of the tests with mvn -Pdrivers process-test-classes (or any later
+ * phase), or copy a warm cache dir to an air-gapped agent and run with
+ * -Ddriver.offline=true, which never touches the network and fails fast if
+ * the cache is empty. An explicit -Dwebdriver.chrome.driver=... always wins.
+ */
+public class DriverBinary {
+    static final String MANIFEST = "chromedriver.properties";
+    private static String resolved;
+
+    /** Path of a usable chromedriver; also sets webdriver.chrome.driver. */
+    public static synchronized String resolve() {
+        if (resolved != null) return resolved;
+
+        String explicit = System.getProperty("webdriver.chrome.driver");
+        if (explicit != null && Files.isExecutable(Paths.get(explicit))) {
+            return resolved = explicit;
+        }
+
+        Properties manifest = readManifest();
+        String cached = manifest.getProperty("driver.path");
+        if (cached != null) {
+            // relative paths keep the cache dir relocatable between machines
+            Path binary = cacheDir().resolve(cached).toAbsolutePath();
+            if (Files.isExecutable(binary)) {
+                System.setProperty("webdriver.chrome.driver", binary.toString());
+                return resolved = binary.toString();
+            }
+        }
+
+        if (TestConfig.getBoolean("driver.offline", false)) {
+            throw new IllegalStateException("driver.offline=true but no chromedriver is cached in "
+                    + cacheDir() + "; run mvn -Pdrivers process-test-classes on a connected machine and copy that directory");
+        }
+        return resolved = download();
+    }
+
+    /**
+     * Forget the cached binary, e.g. after Chrome updated and the driver no
+     * longer matches. Returns false in offline mode, where nothing can be re-resolved.
+     */
+    public static synchronized boolean invalidate() {
+        if (TestConfig.getBoolean("driver.offline", false)) return false;
+        resolved = null;
+        System.clearProperty("webdriver.chrome.driver");
+        try {
+            Files.deleteIfExists(cacheDir().resolve(MANIFEST));
+        } catch (IOException e) {
+            System.err.println("DriverBinary: could not delete manifest: " + e.getMessage());
+        }
+        return true;
+    }
+
+    static Path cacheDir() {
+        return Paths.get(TestConfig.get("driver.cache.dir",
+                Paths.get(System.getProperty("user.home"), ".cache", "selenium-assignment", "drivers").toString()));
+    }
+
+    private static String download() {
+        Path dir = cacheDir();
+        WebDriverManager wdm = WebDriverManager.chromedriver().cachePath(dir.toString());
+        wdm.setup();
+        String path = wdm.getDownloadedDriverPath();
+        Properties manifest = new Properties();
+        Path binary = Paths.get(path).toAbsolutePath();
+        Path base = dir.toAbsolutePath();
+        manifest.setProperty("driver.path", (binary.startsWith(base) ? base.relativize(binary) : binary).toString());
+        manifest.setProperty("driver.version", String.valueOf(wdm.getDownloadedDriverVersion()));
+        manifest.setProperty("resolved.at", Instant.now().toString());
+        try {
+            Files.createDirectories(dir);
+            try (OutputStream out = Files.newOutputStream(dir.resolve(MANIFEST))) {
+                manifest.store(out, "chromedriver resolved by DriverBinary");
+            }
+        } catch (IOException e) {
+            System.err.println("DriverBinary: could not write manifest in " + dir + ": " + e.getMessage());
+        }
+        System.out.println("DriverBinary: chromedriver " + manifest.getProperty("driver.version") + " at " + path);
+        return path;
+    }
+
+    private static Properties readManifest() {
+        Properties manifest = new Properties();
+        Path file = cacheDir().resolve(MANIFEST);
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                manifest.load(in);
+            } catch (IOException e) {
+                System.err.println("DriverBinary: unreadable manifest " + file + ": " + e.getMessage());
+            }
+        }
+        return manifest;
+    }
+
+    /** Entry point for the build-time resolution (mvn -Pdrivers). */
+    public static void main(String[] args) {
+        System.out.println("DriverBinary: using " + resolve());
+    }
+}
@@ -0,0 +1,185 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Pool of warm browser sessions shared by every test class.
+ *
+ * Starting Chrome is the slowest part of most tests, so instead of one
+ * browser per class (or per test) the suite checks sessions out of this
+ * pool and hands them back when done. A returned session is reset
+ * (alerts dismissed, cookies and storage cleared, about:blank) before the
+ * next test gets it, and a session that fails its health check is quit
+ * and replaced.
+ *
+ * Size is set with driver.pool.size (default 2). acquire() blocks while
+ * that many sessions are checked out. A checked-out session is confined to
+ * the thread that acquired it and can be looked up again with
+ * {@link #current()}, which is what keeps parallel runs (-Pparallel) from
+ * sharing a browser between workers. Sessions are started with the
+ * browser.profile options from {@link BrowserOptions} and, unless
+ * timing.enabled=false, wrapped in a {@link StepTimer}; each session also
+ * gets a {@link Diagnostics} recorder, cleared on every checkout.
+ */
+public class DriverPool {
+    private static final int MAX_SIZE = Math.max(1, TestConfig.getInt("driver.pool.size", 2));
+    private static final Semaphore permits = new Semaphore(MAX_SIZE, true);
+    private static final Deque<WebDriver> idle = new ArrayDeque<>();
+    private static final Set<WebDriver> all = new HashSet<>();
+    private static final ThreadLocal<WebDriver> current = new ThreadLocal<>();
+    private static final String PROFILE = BrowserOptions.profile();
+    private static final boolean TIMED = TestConfig.getBoolean("timing.enabled", true);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverPool::shutdown, "driver-pool-shutdown"));
+    }
+
+    /** Check out a healthy session, starting a new browser only if no idle one is available. */
+    public static WebDriver acquire() {
+        long start = System.nanoTime();
+        permits.acquireUninterruptibly();
+        try {
+            while (true) {
+                WebDriver driver;
+                synchronized (DriverPool.class) {
+                    driver = idle.pollFirst();
+                }
+                if (driver == null) {
+                    driver = create();
+                } else if (!isHealthy(driver)) {
+                    discard(driver);
+                    continue;
+                }
+                Diagnostics diagnostics = Diagnostics.of(driver);
+                if (diagnostics != null) diagnostics.clear();
+                current.set(driver);
+                Timings.record("pool.acquire", System.nanoTime() - start);
+                return driver;
+            }
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /** Reset a session and return it to the pool. Unusable sessions are quit instead. */
+    public static void release(WebDriver driver) {
+        if (driver == null) return;
+        if (current.get() == driver) current.remove();
+        try {
+            if (reset(driver)) {
+                synchronized (DriverPool.class) {
+                    idle.addFirst(driver);
+                }
+            } else {
+                discard(driver);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /** The session checked out by the calling thread, or null. */
+    public static WebDriver current() {
+        return current.get();
+    }
+
+    /** Number of browser sessions currently open (idle or checked out). */
+    public static synchronized int size() {
+        return all.size();
+    }
+
+    private static WebDriver create() {
+        long start = System.nanoTime();
+        WebDriver driver = BrowserOptions.newDriver(PROFILE);
+        Timings.record("pool.create", System.nanoTime() - start);
+        Diagnostics diagnostics = Diagnostics.start(driver);
+        List<WebDriverListener> listeners = new ArrayList<>();
+        if (TIMED) listeners.add(new StepTimer());
+        if (diagnostics != null) listeners.add(diagnostics);
+        if (ImpactMap.RECORDING) listeners.add(new ImpactRecorder());
+        if (PageMetrics.ENABLED && !BrowserOptions.isHtmlUnit(driver)) listeners.add(new PageMetrics());
+        if (!listeners.isEmpty()) {
+            driver = new EventFiringDecorator<>(listeners.toArray(new WebDriverListener[0])).decorate(driver);
+        }
+        if (diagnostics != null) Diagnostics.register(driver, diagnostics);
+        synchronized (DriverPool.class) {
+            all.add(driver);
+        }
+        return driver;
+    }
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            System.err.println("DriverPool: dropping unhealthy session: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean reset(WebDriver driver) {
+        long start = System.nanoTime();
+        try {
+            try {
+                driver.switchTo().alert().dismiss();
+            } catch (NoAlertPresentException ignored) {}
+
+            // close any extra windows a test may have opened
+            String main = driver.getWindowHandles().iterator().next();
+            for (String handle : driver.getWindowHandles()) {
+                if (!handle.equals(main)) {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            driver.switchTo().window(main);
+
+            // cookies and storage belong to the current origin, so clear them before leaving it
+            driver.manage().deleteAllCookies();
+            if (!driver.getCurrentUrl().startsWith("about:")) {
+                ((JavascriptExecutor) driver).executeScript(
+                        "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            System.err.println("DriverPool: reset failed, session will be replaced: " + e.getMessage());
+            return false;
+        } finally {
+            Timings.record("pool.reset", System.nanoTime() - start);
+        }
+    }
+
+    private static void discard(WebDriver driver) {
+        synchronized (DriverPool.class) {
+            all.remove(driver);
+        }
+        Diagnostics.forget(driver);
+        BrowserOptions.quit(driver);
+    }
+
+    private static void shutdown() {
+        Set<WebDriver> open;
+        synchronized (DriverPool.class) {
+            open = new HashSet<>(all);
+            all.clear();
+            idle.clear();
+        }
+        for (WebDriver driver : open) {
+            BrowserOptions.quit(driver);
+        }
+    }
+}
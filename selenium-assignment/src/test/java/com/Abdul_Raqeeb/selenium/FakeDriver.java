@@ -0,0 +1,466 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.logging.LogEntries;
+import org.openqa.selenium.logging.Logs;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * In-memory WebDriver for unit tests and the benchmarks in
+ * selenium-assignment-bench: every call answers at once, without a browser.
+ * findElement finds anything except locators containing "missing";
+ * executeScript answers null and executeAsyncScript a counter that grows by
+ * one per call (like a page that changes between every FastWait check),
+ * unless a test sets its own answers. Cookies and timeouts are kept,
+ * navigation only changes the URL, window and frame switches stay on the
+ * one page, and there is never an alert. {@link WithScreenshots} also
+ * takes screenshots.
+ */
+public class FakeDriver implements WebDriver, JavascriptExecutor {
+    private final Map<String, Cookie> cookies = new LinkedHashMap<>();
+    private final FakeTimeouts timeouts = new FakeTimeouts();
+    private String url = "about:blank";
+    private String pageSource = "<html><body></body></html>";
+    private Function<String, Object> scripts = script -> null;
+    private Function<String, Object> asyncScripts;
+    private long seq;
+
+    /** Answer executeScript calls (given the script) with this function. */
+    public FakeDriver onScript(Function<String, Object> answer) {
+        this.scripts = answer;
+        return this;
+    }
+
+    /** Answer executeAsyncScript calls (given the script) with this function. */
+    public FakeDriver onAsyncScript(Function<String, Object> answer) {
+        this.asyncScripts = answer;
+        return this;
+    }
+
+    public FakeDriver pageSource(String html) {
+        this.pageSource = html;
+        return this;
+    }
+
+    @Override
+    public void get(String url) {
+        this.url = url;
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return url;
+    }
+
+    @Override
+    public String getTitle() {
+        return "STORE";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return by.toString().contains("missing") ? List.of() : List.of(new FakeElement(this, by.toString()));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        if (by.toString().contains("missing")) throw new NoSuchElementException("Fake: no element " + by);
+        return new FakeElement(this, by.toString());
+    }
+
+    @Override
+    public String getPageSource() {
+        return pageSource;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void quit() {
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return Set.of("main");
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return "main";
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        return new FakeTargetLocator();
+    }
+
+    @Override
+    public Navigation navigate() {
+        return new FakeNavigation();
+    }
+
+    @Override
+    public Options manage() {
+        return new FakeOptions();
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        return scripts.apply(script);
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return asyncScripts != null ? asyncScripts.apply(script) : ++seq;
+    }
+
+    /** A FakeDriver that returns the given PNG frames in turn as screenshots, repeating the last one. */
+    public static class WithScreenshots extends FakeDriver implements TakesScreenshot {
+        private final byte[][] frames;
+        private int next;
+
+        public WithScreenshots(byte[]... frames) {
+            this.frames = frames;
+        }
+
+        @Override
+        public synchronized <X> X getScreenshotAs(OutputType<X> target) {
+            byte[] frame = frames[Math.min(next++, frames.length - 1)];
+            return target.convertFromPngBytes(frame);
+        }
+    }
+
+    /** An element that is always displayed and enabled; its text is its locator. */
+    static class FakeElement implements WebElement {
+        private final FakeDriver driver;
+        private final String locator;
+
+        FakeElement(FakeDriver driver, String locator) {
+            this.driver = driver;
+            this.locator = locator;
+        }
+
+        @Override
+        public void click() {
+        }
+
+        @Override
+        public void submit() {
+        }
+
+        @Override
+        public void sendKeys(CharSequence... keysToSend) {
+        }
+
+        @Override
+        public void clear() {
+        }
+
+        @Override
+        public String getTagName() {
+            return "div";
+        }
+
+        @Override
+        public String getAttribute(String name) {
+            return null;
+        }
+
+        @Override
+        public boolean isSelected() {
+            return false;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public String getText() {
+            return locator;
+        }
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            return driver.findElements(by);
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            return driver.findElement(by);
+        }
+
+        @Override
+        public boolean isDisplayed() {
+            return true;
+        }
+
+        @Override
+        public Point getLocation() {
+            return new Point(0, 0);
+        }
+
+        @Override
+        public Dimension getSize() {
+            return new Dimension(100, 20);
+        }
+
+        @Override
+        public Rectangle getRect() {
+            return new Rectangle(getLocation(), getSize());
+        }
+
+        @Override
+        public String getCssValue(String propertyName) {
+            return "";
+        }
+
+        @Override
+        public <X> X getScreenshotAs(OutputType<X> target) {
+            return target.convertFromBase64Png("");
+        }
+    }
+
+    private class FakeTargetLocator implements TargetLocator {
+        @Override
+        public WebDriver frame(int index) {
+            return FakeDriver.this;
+        }
+
+        @Override
+        public WebDriver frame(String nameOrId) {
+            return FakeDriver.this;
+        }
+
+        @Override
+        public WebDriver frame(WebElement frameElement) {
+            return FakeDriver.this;
+        }
+
+        @Override
+        public WebDriver parentFrame() {
+            return FakeDriver.this;
+        }
+
+        @Override
+        public WebDriver window(String nameOrHandle) {
+            return FakeDriver.this;
+        }
+
+        @Override
+        public WebDriver newWindow(WindowType typeHint) {
+            return FakeDriver.this;
+        }
+
+        @Override
+        public WebDriver defaultContent() {
+            return FakeDriver.this;
+        }
+
+        @Override
+        public WebElement activeElement() {
+            return new FakeElement(FakeDriver.this, "active");
+        }
+
+        /** Same answer as a real driver with no alert open. */
+        @Override
+        public Alert alert() {
+            throw new NoAlertPresentException("Fake: no alert open");
+        }
+    }
+
+    private class FakeNavigation implements Navigation {
+        @Override
+        public void back() {
+        }
+
+        @Override
+        public void forward() {
+        }
+
+        @Override
+        public void to(String url) {
+            get(url);
+        }
+
+        @Override
+        public void to(URL url) {
+            get(url.toString());
+        }
+
+        @Override
+        public void refresh() {
+        }
+    }
+
+    private class FakeOptions implements Options {
+        @Override
+        public void addCookie(Cookie cookie) {
+            cookies.put(cookie.getName(), cookie);
+        }
+
+        @Override
+        public void deleteCookieNamed(String name) {
+            cookies.remove(name);
+        }
+
+        @Override
+        public void deleteCookie(Cookie cookie) {
+            cookies.remove(cookie.getName());
+        }
+
+        @Override
+        public void deleteAllCookies() {
+            cookies.clear();
+        }
+
+        @Override
+        public Set<Cookie> getCookies() {
+            return new LinkedHashSet<>(cookies.values());
+        }
+
+        @Override
+        public Cookie getCookieNamed(String name) {
+            return cookies.get(name);
+        }
+
+        @Override
+        public Timeouts timeouts() {
+            return timeouts;
+        }
+
+        @Override
+        public Window window() {
+            return new FakeWindow();
+        }
+
+        @Override
+        public Logs logs() {
+            return new Logs() {
+                @Override
+                public LogEntries get(String logType) {
+                    return new LogEntries(List.of());
+                }
+
+                @Override
+                public Set<String> getAvailableLogTypes() {
+                    return Set.of();
+                }
+            };
+        }
+    }
+
+    private static class FakeTimeouts implements Timeouts {
+        private Duration implicitWait = Duration.ZERO;
+        private Duration script = Duration.ofSeconds(30);
+        private Duration pageLoad = Duration.ofSeconds(300);
+
+        @Override
+        @Deprecated
+        public Timeouts implicitlyWait(long time, TimeUnit unit) {
+            return implicitlyWait(Duration.ofMillis(unit.toMillis(time)));
+        }
+
+        @Override
+        public Timeouts implicitlyWait(Duration duration) {
+            implicitWait = duration;
+            return this;
+        }
+
+        @Override
+        public Duration getImplicitWaitTimeout() {
+            return implicitWait;
+        }
+
+        @Override
+        @Deprecated
+        public Timeouts setScriptTimeout(long time, TimeUnit unit) {
+            return scriptTimeout(Duration.ofMillis(unit.toMillis(time)));
+        }
+
+        @Override
+        public Timeouts scriptTimeout(Duration duration) {
+            script = duration;
+            return this;
+        }
+
+        @Override
+        public Duration getScriptTimeout() {
+            return script;
+        }
+
+        @Override
+        @Deprecated
+        public Timeouts pageLoadTimeout(long time, TimeUnit unit) {
+            return pageLoadTimeout(Duration.ofMillis(unit.toMillis(time)));
+        }
+
+        @Override
+        public Timeouts pageLoadTimeout(Duration duration) {
+            pageLoad = duration;
+            return this;
+        }
+
+        @Override
+        public Duration getPageLoadTimeout() {
+            return pageLoad;
+        }
+    }
+
+    private static class FakeWindow implements Window {
+        @Override
+        public Dimension getSize() {
+            return new Dimension(1366, 768);
+        }
+
+        @Override
+        public void setSize(Dimension targetSize) {
+        }
+
+        @Override
+        public Point getPosition() {
+            return new Point(0, 0);
+        }
+
+        @Override
+        public void setPosition(Point targetPosition) {
+        }
+
+        @Override
+        public void maximize() {
+        }
+
+        @Override
+        public void minimize() {
+        }
+
+        @Override
+        public void fullscreen() {
+        }
+    }
+}
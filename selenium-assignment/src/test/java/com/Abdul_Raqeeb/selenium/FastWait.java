@@ -0,0 +1,189 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.UnhandledAlertException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Drop-in {@link WebDriverWait} that re-checks its condition as soon as the
+ * page changes instead of on a fixed 500ms poll.
+ *
+ * Between checks it parks in an async script that returns on the next DOM
+ * mutation or finished XHR/fetch (hooks are installed once per page), so a
+ * condition like "cart has rows" is seen a few milliseconds after the
+ * response renders. Each park is capped by a short, growing interval
+ * (10ms up to 250ms) so conditions with no DOM footprint, such as an alert
+ * opening, are still picked up quickly. If the driver cannot run async
+ * scripts it falls back to plain adaptive polling on the same intervals;
+ * so do HtmlUnit sessions, where a check costs no round trip anyway and
+ * async scripts break while a page is being replaced.
+ *
+ * Use it exactly like WebDriverWait: wait.until(ExpectedConditions...).
+ * withTimeout, withMessage and ignoring work as on any FluentWait
+ * (NotFoundException and StaleElementReferenceException are ignored by
+ * default); pollingEvery sets a fixed interval instead of the growing one,
+ * and a page change still ends a round early.
+ */
+public class FastWait extends WebDriverWait {
+    private static final long MIN_INTERVAL_MS = 10;
+    private static final long MAX_INTERVAL_MS = 250;
+
+    // args: [maxWaitMs, lastSeenSeq, callback]; resolves with the page's change counter
+    private static final String AWAIT_CHANGE =
+            "var maxWait = arguments[0], lastSeq = arguments[1], done = arguments[arguments.length - 1];\n" +
+            "var hub = window.__fastWait;\n" +
+            "if (!hub) {\n" +
+            "  hub = window.__fastWait = {seq: 0, waiters: []};\n" +
+            "  hub.notify = function () {\n" +
+            "    hub.seq++;\n" +
+            "    var ws = hub.waiters; hub.waiters = [];\n" +
+            "    for (var i = 0; i < ws.length; i++) ws[i]();\n" +
+            "  };\n" +
+            "  new MutationObserver(function () { hub.notify(); }).observe(document,\n" +
+            "      {subtree: true, childList: true, attributes: true, characterData: true});\n" +
+            "  var send = XMLHttpRequest.prototype.send;\n" +
+            "  XMLHttpRequest.prototype.send = function () {\n" +
+            "    this.addEventListener('loadend', function () { setTimeout(hub.notify, 0); });\n" +
+            "    return send.apply(this, arguments);\n" +
+            "  };\n" +
+            "  if (window.fetch) {\n" +
+            "    var origFetch = window.fetch;\n" +
+            "    window.fetch = function () {\n" +
+            "      return origFetch.apply(this, arguments).then(\n" +
+            "          function (r) { setTimeout(hub.notify, 0); return r; },\n" +
+            "          function (e) { setTimeout(hub.notify, 0); throw e; });\n" +
+            "    };\n" +
+            "  }\n" +
+            "}\n" +
+            "if (lastSeq >= 0 && hub.seq !== lastSeq) { done(hub.seq); return; }\n" +
+            "var settled = false;\n" +
+            "var timer = setTimeout(function () { finish(); }, maxWait);\n" +
+            "function finish() { if (settled) return; settled = true; clearTimeout(timer); done(hub.seq); }\n" +
+            "hub.waiters.push(finish);\n";
+
+    private final WebDriver driver;
+    private final boolean events;
+    private int scriptFailures; // consecutive; events are given up after a few
+    // no initializers: WebDriverWait's constructor already configures these through the overrides below
+    private Duration timeout;
+    private Duration pollInterval; // null = adaptive
+    private Supplier<String> message;
+    private List<Class<? extends Throwable>> ignored;
+
+    public FastWait(WebDriver driver, Duration timeout) {
+        super(driver, timeout);
+        this.driver = driver;
+        this.events = driver instanceof JavascriptExecutor && !BrowserOptions.isHtmlUnit(driver);
+        this.pollInterval = null; // drop WebDriverWait's default 500ms; callers can still set one
+        ignoring(StaleElementReferenceException.class);
+    }
+
+    @Override
+    public FluentWait<WebDriver> withTimeout(Duration timeout) {
+        this.timeout = timeout;
+        return super.withTimeout(timeout);
+    }
+
+    @Override
+    public FluentWait<WebDriver> pollingEvery(Duration interval) {
+        this.pollInterval = interval;
+        return super.pollingEvery(interval);
+    }
+
+    @Override
+    public FluentWait<WebDriver> withMessage(String message) {
+        return withMessage(() -> message);
+    }
+
+    @Override
+    public FluentWait<WebDriver> withMessage(Supplier<String> messageSupplier) {
+        this.message = messageSupplier;
+        return super.withMessage(messageSupplier);
+    }
+
+    @Override
+    public <K extends Throwable> FluentWait<WebDriver> ignoreAll(Collection<Class<? extends K>> types) {
+        if (ignored == null) ignored = new ArrayList<>();
+        ignored.addAll(types);
+        return super.ignoreAll(types);
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> condition) {
+        long start = System.nanoTime();
+        try {
+            return awaitCondition(condition, start + timeout.toNanos());
+        } finally {
+            Timings.record("wait", System.nanoTime() - start);
+        }
+    }
+
+    private <V> V awaitCondition(Function<? super WebDriver, V> condition, long deadline) {
+        long interval = pollInterval != null ? pollInterval.toMillis() : MIN_INTERVAL_MS;
+        long seq = -1;
+        Throwable lastError = null;
+        while (true) {
+            try {
+                V value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) return value;
+            } catch (Throwable e) {
+                lastError = propagateIfNotIgnored(e);
+            }
+
+            long remainingMs = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMs <= 0) {
+                String what = message == null ? null : message.get();
+                throw timeoutException(String.format(
+                        "Expected condition failed: %s (tried for %d second(s) with %s)",
+                        what != null ? what : "waiting for " + condition, timeout.getSeconds(),
+                        pollInterval != null ? pollInterval.toMillis() + " milliseconds interval" : "event-driven polling"),
+                        lastError);
+            }
+            seq = awaitChange(seq, Math.max(1, Math.min(interval, remainingMs)));
+            if (pollInterval == null) interval = Math.min(interval * 2, MAX_INTERVAL_MS);
+        }
+    }
+
+    private Throwable propagateIfNotIgnored(Throwable e) {
+        for (Class<? extends Throwable> type : ignored) {
+            if (type.isInstance(e)) return e;
+        }
+        if (e instanceof RuntimeException) throw (RuntimeException) e;
+        if (e instanceof Error) throw (Error) e;
+        throw new WebDriverException(e);
+    }
+
+    /** Block until the page reports a change or maxWaitMs passes; returns the page's change counter. */
+    private long awaitChange(long lastSeq, long maxWaitMs) {
+        if (events && scriptFailures < 3) {
+            try {
+                Object seq = ((JavascriptExecutor) driver).executeAsyncScript(AWAIT_CHANGE, maxWaitMs, lastSeq);
+                scriptFailures = 0;
+                return seq instanceof Number ? ((Number) seq).longValue() : -1;
+            } catch (UnhandledAlertException e) {
+                return -1; // an alert opened: re-check the condition right away
+            } catch (WebDriverException | UnsupportedOperationException e) {
+                // page navigating or async scripts unsupported: poll this round instead
+                scriptFailures++;
+            }
+        }
+        try {
+            Thread.sleep(maxWaitMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException(e);
+        }
+        return -1;
+    }
+}
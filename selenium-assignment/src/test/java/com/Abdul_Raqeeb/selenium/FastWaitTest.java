@@ -0,0 +1,53 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** {@link FastWait} honoring the usual FluentWait settings, on a {@link FakeDriver}. */
+public class FastWaitTest {
+
+    @Test
+    @DisplayName("Missing elements are waited out; the timeout keeps the cause")
+    void ignoresNotFoundByDefault() {
+        FastWait wait = new FastWait(new FakeDriver(), Duration.ofMillis(100));
+        TimeoutException e = assertThrows(TimeoutException.class, () -> wait.until(d -> d.findElement(By.id("missing"))));
+        assertInstanceOf(NoSuchElementException.class, e.getCause());
+        assertTrue(e.getMessage().contains("event-driven polling"), e.getMessage());
+    }
+
+    @Test
+    @DisplayName("withMessage and pollingEvery set by the caller are used")
+    void messageAndInterval() {
+        FastWait wait = new FastWait(new FakeDriver(), Duration.ofMillis(100));
+        wait.pollingEvery(Duration.ofMillis(20)).withMessage("cart never filled");
+        int[] checks = {0};
+        TimeoutException e = assertThrows(TimeoutException.class, () -> wait.until(d -> ++checks[0] < 0));
+        assertTrue(e.getMessage().contains("cart never filled"), e.getMessage());
+        assertTrue(e.getMessage().contains("20 milliseconds interval"), e.getMessage());
+        assertTrue(checks[0] >= 3, "checked every 20ms, got " + checks[0]);
+    }
+
+    @Test
+    @DisplayName("Only ignored exceptions are retried")
+    void ignoring() {
+        FastWait strict = new FastWait(new FakeDriver(), Duration.ofSeconds(5));
+        assertThrows(IllegalStateException.class, () -> strict.until(d -> {
+            throw new IllegalStateException("page broke");
+        }));
+
+        FastWait lenient = new FastWait(new FakeDriver(), Duration.ofSeconds(5));
+        lenient.ignoring(IllegalStateException.class);
+        int[] checks = {0};
+        assertEquals(Boolean.TRUE, lenient.until(d -> {
+            if (++checks[0] < 3) throw new IllegalStateException("not yet");
+            return true;
+        }));
+    }
+}
@@ -0,0 +1,142 @@
+package com.Abdul_Raqeeb.selenium;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Per-test outcome history used to spot flaky tests, kept across runs in
+ * flaky.store (default run-results/flake-store.txt) as one line per test:
+ * "LoginTest.testValidLogin=PPRPF", oldest first, at most flaky.window
+ * outcomes. P passed, R passed only on a retry, F failed every attempt.
+ *
+ * A test's flake rate is its share of R. Once it has flaky.min.runs
+ * outcomes and a rate of at least flaky.quarantine.threshold it is
+ * quarantined (see {@link RetryExtension}); it leaves quarantine by itself
+ * when older retries roll out of the window. Quarantine is decided from
+ * the file as it was when the run started, so it doesn't change mid-run.
+ */
+public class FlakeStore {
+    public enum Outcome {
+        PASSED('P'), FLAKY('R'), FAILED('F');
+
+        final char code;
+
+        Outcome(char code) {
+            this.code = code;
+        }
+    }
+
+    private static FlakeStore shared;
+
+    private final Path file;
+    private final int window;
+    private final double threshold;
+    private final int minRuns;
+    private final Set<String> quarantined;
+
+    public FlakeStore(Path file, int window, double threshold, int minRuns) {
+        this.file = file;
+        this.window = Math.max(1, window);
+        this.threshold = threshold;
+        this.minRuns = minRuns;
+        Set<String> q = new TreeSet<>();
+        read().forEach((test, history) -> {
+            if (isFlaky(history)) q.add(test);
+        });
+        this.quarantined = Collections.unmodifiableSet(q);
+    }
+
+    public static synchronized FlakeStore shared() {
+        if (shared == null) {
+            shared = new FlakeStore(
+                    Paths.get(TestConfig.get("flaky.store",
+                            Paths.get(TestConfig.get("run.output.dir", "run-results"), "flake-store.txt").toString())),
+                    TestConfig.getInt("flaky.window", 20),
+                    TestConfig.getDouble("flaky.quarantine.threshold", 0.2),
+                    TestConfig.getInt("flaky.min.runs", 5));
+            if (!shared.quarantined.isEmpty()) {
+                System.out.println("FlakeStore: quarantined " + shared.quarantined);
+            }
+        }
+        return shared;
+    }
+
+    public boolean isQuarantined(String test) {
+        return quarantined.contains(test);
+    }
+
+    public Set<String> quarantined() {
+        return quarantined;
+    }
+
+    /** Share of retried passes in a history string. */
+    public static double flakeRate(String history) {
+        if (history.isEmpty()) return 0;
+        return history.chars().filter(c -> c == Outcome.FLAKY.code).count() / (double) history.length();
+    }
+
+    boolean isFlaky(String history) {
+        return history.length() >= minRuns && flakeRate(history) >= threshold;
+    }
+
+    /** Recorded outcomes per test, oldest first. */
+    public Map<String, String> read() {
+        if (!Files.exists(file)) return new TreeMap<>();
+        try {
+            return parse(Files.readString(file, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Append an outcome; read-modify-write under a file lock so parallel forks don't lose updates. */
+    public synchronized void record(String test, Outcome outcome) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock();
+                try {
+                    ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+                    while (buffer.hasRemaining() && channel.read(buffer) >= 0) {}
+                    Map<String, String> all = parse(new String(buffer.array(), StandardCharsets.UTF_8));
+
+                    String history = all.getOrDefault(test, "") + outcome.code;
+                    all.put(test, history.substring(Math.max(0, history.length() - window)));
+
+                    StringBuilder out = new StringBuilder();
+                    all.forEach((t, h) -> out.append(t).append('=').append(h).append('\n'));
+                    channel.truncate(0);
+                    channel.write(StandardCharsets.UTF_8.encode(out.toString()), 0);
+                } finally {
+                    lock.release();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("FlakeStore: could not record " + test + ": " + e.getMessage());
+        }
+    }
+
+    private static Map<String, String> parse(String text) {
+        Map<String, String> all = new TreeMap<>();
+        for (String line : text.split("\n")) {
+            int eq = line.lastIndexOf('=');
+            if (eq > 0) all.put(line.substring(0, eq).trim(), line.substring(eq + 1).trim());
+        }
+        return all;
+    }
+}
@@ -0,0 +1,95 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.util.List;
+
+/** index.html: navbar, categories and product cards. */
+public class HomePage extends BasePage {
+    static final By LOGIN_LINK = By.id("login2");
+    static final By SIGNUP_LINK = By.id("signin2");
+    static final By LOGOUT_LINK = By.id("logout2");
+    static final By WELCOME = By.id("nameofuser");
+    static final By CART_LINK = By.id("cartur");
+    static final By PRODUCT_LINKS = By.cssSelector(".card-title a");
+    static final By PRODUCT_LINKS_FALLBACK = By.cssSelector(".hrefch");
+    static final By PRODUCT_CARDS = By.cssSelector(".card-block, .card");
+    /** Container the product cards are rendered into; a category link re-renders it. */
+    static final By PRODUCT_LIST = By.id("tbodyid");
+
+    private final LazyElement loginLink = element(LOGIN_LINK);
+    private final LazyElement signUpLink = element(SIGNUP_LINK);
+    private final LazyElement logoutLink = element(LOGOUT_LINK);
+    private final LazyElement welcome = element(WELCOME);
+    private final LazyElement cartLink = element(CART_LINK);
+
+    public HomePage(WebDriver driver, WebDriverWait wait) {
+        super(driver, wait);
+    }
+
+    public HomePage open() {
+        navigate(TestConfig.baseUrl());
+        return this;
+    }
+
+    public LoginModal openLogin() {
+        loginLink.waitClickable(wait).click();
+        return new LoginModal(driver, wait).waitOpen();
+    }
+
+    public SignUpModal openSignUp() {
+        signUpLink.waitClickable(wait).click();
+        return new SignUpModal(driver, wait).waitOpen();
+    }
+
+    /** Click a category in the side list, e.g. "Laptops". */
+    public HomePage selectCategory(String name) {
+        wait.until(ExpectedConditions.elementToBeClickable(By.linkText(name))).click();
+        return this;
+    }
+
+    /** Wait for product cards and return their links (falling back to whole cards). */
+    public List<WebElement> waitForProducts() {
+        wait.until(ExpectedConditions.or(
+                ExpectedConditions.visibilityOfElementLocated(PRODUCT_LINKS),
+                ExpectedConditions.visibilityOfElementLocated(PRODUCT_LINKS_FALLBACK),
+                ExpectedConditions.visibilityOfElementLocated(PRODUCT_CARDS)
+        ));
+        List<WebElement> products = driver.findElements(PRODUCT_LINKS);
+        if (products.isEmpty()) products = driver.findElements(PRODUCT_LINKS_FALLBACK);
+        if (products.isEmpty()) products = driver.findElements(PRODUCT_CARDS);
+        return products;
+    }
+
+    public ProductPage openFirstProduct() {
+        wait.until(ExpectedConditions.visibilityOfElementLocated(PRODUCT_LINKS_FALLBACK)).click();
+        invalidate();
+        return new ProductPage(driver, wait);
+    }
+
+    /** Wait for the "Welcome <user>" text shown after login and return it. */
+    public String waitForWelcome() {
+        return welcome.waitVisible(wait).getText();
+    }
+
+    public void logOut() {
+        logoutLink.waitClickable(wait).click();
+        invalidate();
+    }
+
+    /** Wait for the "Log in" link (shown when logged out) and report whether it is visible. */
+    public boolean waitForLoginLink() {
+        loginLink.waitVisible(wait);
+        return loginLink.isDisplayed();
+    }
+
+    public CartPage openCart() {
+        cartLink.click();
+        invalidate();
+        return new CartPage(driver, wait);
+    }
+}
@@ -0,0 +1,39 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** The in-JVM browser (browser=htmlunit) driving the page objects against a {@link DemoblazeServer}. */
+public class HtmlUnitBackendTest {
+
+    @Test
+    @DisplayName("Login modal and error alert work without a browser process")
+    void invalidLoginAlert() throws IOException {
+        DemoblazeServer server = new DemoblazeServer(0);
+        WebDriver driver = StepTimer.decorate(BrowserOptions.newHtmlUnitDriver());
+        try {
+            assertTrue(BrowserOptions.isHtmlUnit(driver), "decorated session should still count as HtmlUnit");
+            driver.get(server.url() + "/index.html");
+            HomePage home = new HomePage(driver, new FastWait(driver, Duration.ofSeconds(5)));
+            home.openLogin().logIn("nobody_" + System.nanoTime(), "wrong");
+            assertEquals("User does not exist.", home.acceptAlert());
+        } finally {
+            BrowserOptions.quit(driver);
+            server.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Browser names are normalized and unknown ones rejected")
+    void browserNames() {
+        assertEquals("htmlunit", BrowserOptions.browser(" HtmlUnit"));
+        assertEquals("chrome", BrowserOptions.browser("chrome"));
+        assertThrows(IllegalArgumentException.class, () -> BrowserOptions.browser("netscape"));
+    }
+}
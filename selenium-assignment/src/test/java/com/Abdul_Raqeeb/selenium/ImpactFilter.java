@@ -0,0 +1,100 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Runs only the tests affected by a change, using the {@link ImpactMap}.
+ * Registered in META-INF/services; does nothing unless a change is given:
+ *
+ * impact.changed: comma-separated URLs/paths, locators, page object or
+ * test class names ("/addtocart,#tbodyid,CartPage"); impact.diff: a git
+ * ref, whose changed files (git diff --name-only) are turned into those
+ * tokens. Both may be combined.
+ *
+ * impact.lane=affected (default) runs the affected tests plus tests with
+ * nothing recorded yet; impact.lane=deferred runs the rest, so CI can give
+ * fast feedback first and run the remainder afterwards. Surefire discovers
+ * one class at a time, so "first" means a separate invocation rather than
+ * reordering one run.
+ */
+public class ImpactFilter implements PostDiscoveryFilter {
+    private final boolean deferred = TestConfig.get("impact.lane", "affected").equals("deferred");
+    private Map<String, Set<String>> map;
+    private Set<String> affected;
+
+    @Override
+    public synchronized FilterResult apply(TestDescriptor descriptor) {
+        if (!(descriptor.getSource().orElse(null) instanceof MethodSource) || !descriptor.isTest()) {
+            return FilterResult.included("not a test method");
+        }
+        if (affected == null) {
+            Set<String> changes = changes();
+            if (changes.isEmpty()) {
+                affected = Set.of();
+                map = null;
+            } else {
+                map = ImpactMap.read(ImpactMap.file());
+                affected = ImpactMap.affected(map, changes);
+                System.out.println("ImpactFilter: " + changes + " affects " + affected.size() + " of "
+                        + map.size() + " recorded tests" + (deferred ? ", running the others" : ""));
+            }
+        }
+        if (map == null) return FilterResult.included("no change given");
+
+        MethodSource source = (MethodSource) descriptor.getSource().get();
+        String test = source.getJavaClass().getSimpleName() + "." + source.getMethodName();
+        boolean selected = affected.contains(test) || !map.containsKey(test);
+        return FilterResult.includedIf(selected != deferred,
+                () -> selected ? "affected by the change" : "not affected by the change",
+                () -> selected ? "affected, ran in the affected lane" : "not affected by the change");
+    }
+
+    private static Set<String> changes() {
+        Set<String> changes = Arrays.stream(TestConfig.get("impact.changed", "").split(","))
+                .map(String::trim).filter(s -> !s.isEmpty())
+                .collect(Collectors.toCollection(TreeSet::new));
+        String ref = TestConfig.get("impact.diff", "");
+        if (!ref.isEmpty()) {
+            changes.addAll(ImpactMap.changesFromFiles(changedFiles(ref), ImpactMap.read(ImpactMap.file())));
+        }
+        return changes;
+    }
+
+    /** Files changed since ref, relative to the working directory; a failing git selects everything. */
+    private static List<String> changedFiles(String ref) {
+        List<String> files = new ArrayList<>();
+        try {
+            Process git = new ProcessBuilder("git", "diff", "--name-only", "--relative", ref)
+                    .redirectErrorStream(true).start();
+            try (BufferedReader out = new BufferedReader(new InputStreamReader(git.getInputStream(), StandardCharsets.UTF_8))) {
+                out.lines().forEach(files::add);
+            }
+            if (git.waitFor() != 0) {
+                System.err.println("ImpactFilter: git diff " + ref + " failed: " + files);
+                return List.of(ImpactMap.ALL);
+            }
+        } catch (IOException e) {
+            System.err.println("ImpactFilter: could not run git: " + e.getMessage());
+            return List.of(ImpactMap.ALL);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of(ImpactMap.ALL);
+        }
+        return files;
+    }
+}
@@ -0,0 +1,187 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.remote.http.Filter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Which pages, endpoints, locators and page objects each test touched,
+ * for running only the tests a change can affect ({@link ImpactFilter}).
+ *
+ * Every run records what its tests touch: {@link ImpactRecorder} sees
+ * locators and navigations, the network filter in {@link RequestFilters}
+ * and {@link DemoblazeApi} the requests, {@link BasePage} the page
+ * objects. The map is kept in impact.map (default
+ * run-results/impact-map.tsv), one "test, kind, key" line per touch, e.g.
+ * "CartTest.testAddAndRemoveCart endpoint /deleteitem". A test that ran
+ * replaces its lines; a failed test only adds to them, since it may have
+ * stopped early.
+ */
+public class ImpactMap {
+    public static final String PAGE = "page";
+    public static final String ENDPOINT = "endpoint";
+    public static final String LOCATOR = "locator";
+    public static final String PAGE_OBJECT = "page-object";
+    /** Change token that selects every test. */
+    public static final String ALL = "*";
+
+    /** impact.record=false turns recording off. */
+    static final boolean RECORDING = TestConfig.getBoolean("impact.record", true);
+
+    private static final Map<String, Set<String>> touched = new ConcurrentHashMap<>();
+
+    /** Record a touch by the test running on this thread; fixture code outside a test is ignored. */
+    public static void touch(String kind, String key) {
+        touch(Timings.currentTest(), kind, key);
+    }
+
+    public static void touch(String test, String kind, String key) {
+        if (!RECORDING || test == null || test.equals(Timings.NO_TEST) || key == null || key.isEmpty()) return;
+        touched.computeIfAbsent(test, t -> ConcurrentHashMap.newKeySet()).add(kind + "\t" + key);
+    }
+
+    /** Record a request URL as a page (HTML) or an endpoint (anything else), by path only. */
+    public static void touchUrl(String test, String url) {
+        String path;
+        try {
+            path = URI.create(url).getPath();
+        } catch (IllegalArgumentException e) {
+            return;
+        }
+        if (path == null || path.isEmpty()) path = "/";
+        touch(test, path.equals("/") || path.endsWith(".html") ? PAGE : ENDPOINT, path);
+    }
+
+    /** Network filter recording every request a test's browser makes. */
+    public static Filter networkFilter(String test) {
+        return next -> req -> {
+            touchUrl(test, req.getUri());
+            return next.execute(req);
+        };
+    }
+
+    /** What tests touched in this JVM so far. */
+    static Map<String, Set<String>> touched() {
+        return touched;
+    }
+
+    public static Path file() {
+        return Paths.get(TestConfig.get("impact.map",
+                Paths.get(TestConfig.get("run.output.dir", "run-results"), "impact-map.tsv").toString()));
+    }
+
+    public static Map<String, Set<String>> read(Path file) {
+        if (!Files.exists(file)) return new TreeMap<>();
+        try {
+            return parse(Files.readString(file, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("ImpactMap: could not read " + file + ": " + e.getMessage());
+            return new TreeMap<>();
+        }
+    }
+
+    /** Merge this run's touches into the file under a lock; passed tests replace their old lines. */
+    public static void write(Path file, Map<String, Set<String>> run, Set<String> passed) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            FileLock lock = channel.lock();
+            try {
+                ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {}
+                Map<String, Set<String>> all = parse(new String(buffer.array(), StandardCharsets.UTF_8));
+
+                run.forEach((test, keys) -> {
+                    Set<String> merged = passed.contains(test) ? new TreeSet<>() : all.getOrDefault(test, new TreeSet<>());
+                    merged.addAll(keys);
+                    all.put(test, merged);
+                });
+
+                StringBuilder out = new StringBuilder();
+                all.forEach((test, keys) -> keys.forEach(k -> out.append(test).append('\t').append(k).append('\n')));
+                channel.truncate(0);
+                channel.write(StandardCharsets.UTF_8.encode(out.toString()), 0);
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    /**
+     * Tests affected by any of the change tokens: a token matches a test
+     * whose class has that name, or any recorded key containing it
+     * ("/addtocart", "#tbodyid", "CartPage", "cart.html").
+     */
+    public static Set<String> affected(Map<String, Set<String>> map, Collection<String> changes) {
+        Set<String> selected = new TreeSet<>();
+        for (Map.Entry<String, Set<String>> e : map.entrySet()) {
+            String test = e.getKey();
+            String testClass = test.substring(0, Math.max(0, test.lastIndexOf('.')));
+            for (String change : changes) {
+                if (change.equals(ALL) || change.equals(testClass)
+                        || e.getValue().stream().anyMatch(k -> k.substring(k.indexOf('\t') + 1).contains(change))) {
+                    selected.add(test);
+                    break;
+                }
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Change tokens for a list of changed files (git diff --name-only). Page
+     * objects and test classes become their class name and site files
+     * their file name. Other test code, config and the build can affect any
+     * test, so they select everything. Docs are ignored.
+     */
+    public static Set<String> changesFromFiles(Collection<String> files, Map<String, Set<String>> map) {
+        Set<String> pageObjects = new TreeSet<>();
+        Set<String> testClasses = new TreeSet<>();
+        map.forEach((test, keys) -> {
+            testClasses.add(test.substring(0, Math.max(0, test.lastIndexOf('.'))));
+            keys.stream().filter(k -> k.startsWith(PAGE_OBJECT + "\t"))
+                    .forEach(k -> pageObjects.add(k.substring(k.indexOf('\t') + 1)));
+        });
+
+        Set<String> changes = new TreeSet<>();
+        for (String file : files) {
+            String path = file.replace('\\', '/');
+            String name = path.substring(path.lastIndexOf('/') + 1);
+            if (name.endsWith(".md") || name.endsWith(".txt") || name.endsWith(".jsonl") || name.isEmpty()) continue;
+            if (path.contains("/demoblaze/") || path.contains("/network-stubs/")) {
+                changes.add(name);
+            } else if (name.endsWith(".java")) {
+                String cls = name.substring(0, name.length() - ".java".length());
+                changes.add(pageObjects.contains(cls) || testClasses.contains(cls) ? cls : ALL);
+            } else {
+                changes.add(ALL);
+            }
+        }
+        return changes;
+    }
+
+    private static Map<String, Set<String>> parse(String text) {
+        Map<String, Set<String>> all = new TreeMap<>();
+        for (String line : text.split("\n")) {
+            String[] parts = line.split("\t", 3);
+            if (parts.length == 3) all.computeIfAbsent(parts[0], t -> new TreeSet<>()).add(parts[1] + "\t" + parts[2]);
+        }
+        return all;
+    }
+}
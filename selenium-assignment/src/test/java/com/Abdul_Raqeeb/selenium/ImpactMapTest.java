@@ -0,0 +1,71 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** {@link ImpactMap} selection and merging, without a browser. */
+public class ImpactMapTest {
+    private static final Map<String, Set<String>> MAP = Map.of(
+            "CartTest.testAddAndRemoveCart", Set.of(
+                    "page\t/cart.html", "endpoint\t/addtocart", "endpoint\t/deleteitem",
+                    "locator\tcssSelector: #tbodyid > tr", "page-object\tCartPage"),
+            "LoginTest.testValidLogin", Set.of(
+                    "page\t/index.html", "endpoint\t/login", "locator\tid: nameofuser", "page-object\tHomePage",
+                    "page-object\tLoginModal"),
+            "SignUpTest.testUserSignUp", Set.of(
+                    "page\t/index.html", "endpoint\t/signup", "page-object\tSignUpModal"));
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Changed URLs, locators and class names select the tests that touched them")
+    void selectsAffected() {
+        assertEquals(Set.of("CartTest.testAddAndRemoveCart"), ImpactMap.affected(MAP, List.of("#tbodyid")));
+        assertEquals(Set.of("CartTest.testAddAndRemoveCart"), ImpactMap.affected(MAP, List.of("/deleteitem")));
+        assertEquals(Set.of("LoginTest.testValidLogin", "SignUpTest.testUserSignUp"),
+                ImpactMap.affected(MAP, List.of("index.html")));
+        assertEquals(Set.of("LoginTest.testValidLogin"), ImpactMap.affected(MAP, List.of("LoginTest")));
+        assertEquals(Set.of(), ImpactMap.affected(MAP, List.of("/bycat")));
+        assertEquals(MAP.keySet(), ImpactMap.affected(MAP, List.of(ImpactMap.ALL)));
+    }
+
+    @Test
+    @DisplayName("Changed files become tokens; shared code selects everything, docs nothing")
+    void changesFromFiles() {
+        assertEquals(Set.of("CartPage", "cart.html"), ImpactMap.changesFromFiles(List.of(
+                "src/test/java/com/Abdul_Raqeeb/selenium/CartPage.java",
+                "src/test/resources/demoblaze/cart.html",
+                "README.md"), MAP));
+        assertEquals(Set.of("LoginTest"), ImpactMap.changesFromFiles(
+                List.of("src/test/java/com/Abdul_Raqeeb/selenium/LoginTest.java"), MAP));
+        assertEquals(Set.of(ImpactMap.ALL), ImpactMap.changesFromFiles(
+                List.of("src/test/java/com/Abdul_Raqeeb/selenium/DriverPool.java"), MAP));
+        assertEquals(Set.of(ImpactMap.ALL), ImpactMap.changesFromFiles(List.of("pom.xml"), MAP));
+    }
+
+    @Test
+    @DisplayName("A passed test replaces its recorded touches, a failed one adds to them")
+    void mergesRuns() throws IOException {
+        Path file = dir.resolve("impact-map.tsv");
+        ImpactMap.write(file, Map.of(
+                "CartTest.a", Set.of("endpoint\t/addtocart"),
+                "CartTest.b", Set.of("endpoint\t/addtocart")), Set.of("CartTest.a", "CartTest.b"));
+        ImpactMap.write(file, Map.of(
+                "CartTest.a", Set.of("endpoint\t/viewcart"),
+                "CartTest.b", Set.of("endpoint\t/viewcart")), Set.of("CartTest.a"));
+
+        Map<String, Set<String>> read = ImpactMap.read(file);
+        assertEquals(Set.of("endpoint\t/viewcart"), read.get("CartTest.a"));
+        assertEquals(Set.of("endpoint\t/addtocart", "endpoint\t/viewcart"), read.get("CartTest.b"));
+    }
+}
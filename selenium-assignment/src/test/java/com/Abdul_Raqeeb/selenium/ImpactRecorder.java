@@ -0,0 +1,56 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Feeds the {@link ImpactMap}. As a WebDriverListener on pooled drivers it
+ * records every locator used to find elements and every URL opened; as a
+ * launcher listener (META-INF/services) it merges the run into impact.map
+ * when the run ends.
+ */
+public class ImpactRecorder implements WebDriverListener, TestExecutionListener {
+    private final Set<String> passed = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (args == null) return;
+        for (Object arg : args) {
+            if (arg instanceof By) {
+                String locator = arg.toString();
+                ImpactMap.touch(ImpactMap.LOCATOR, locator.startsWith("By.") ? locator.substring(3) : locator);
+            }
+        }
+        if ((method.getName().equals("get") || method.getName().equals("to")) && args.length == 1) {
+            ImpactMap.touchUrl(Timings.currentTest(), String.valueOf(args[0]));
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier id, TestExecutionResult result) {
+        String name = TimingReport.testName(id);
+        if (name != null && result.getStatus() == TestExecutionResult.Status.SUCCESSFUL) passed.add(name);
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan plan) {
+        if (!ImpactMap.RECORDING || ImpactMap.touched().isEmpty()) return;
+        Map<String, Set<String>> run = new HashMap<>(ImpactMap.touched());
+        try {
+            ImpactMap.write(ImpactMap.file(), run, passed);
+        } catch (IOException e) {
+            System.err.println("ImpactRecorder: could not update " + ImpactMap.file() + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.util.function.Function;
+
+/**
+ * An element that is looked up on first use and then reused, saving a
+ * findElement round trip on every later call. The cached reference is
+ * dropped when its page navigates ({@link BasePage#invalidate()}) and, as a
+ * safety net, re-resolved once if the driver reports it stale.
+ */
+public class LazyElement {
+    private final WebDriver driver;
+    private final By by;
+    private WebElement cached;
+
+    public LazyElement(WebDriver driver, By by) {
+        this.driver = driver;
+        this.by = by;
+    }
+
+    public By by() {
+        return by;
+    }
+
+    /** The element, resolving it if nothing is cached. */
+    public WebElement get() {
+        if (cached == null) cached = driver.findElement(by);
+        return cached;
+    }
+
+    public void invalidate() {
+        cached = null;
+    }
+
+    public void click() {
+        withRetry(e -> {
+            e.click();
+            return null;
+        });
+    }
+
+    public void sendKeys(CharSequence... keys) {
+        withRetry(e -> {
+            e.sendKeys(keys);
+            return null;
+        });
+    }
+
+    public String getText() {
+        return withRetry(WebElement::getText);
+    }
+
+    /** False when the element is hidden or not in the page. */
+    public boolean isDisplayed() {
+        try {
+            return withRetry(WebElement::isDisplayed);
+        } catch (NoSuchElementException e) {
+            return false;
+        }
+    }
+
+    /** Wait until visible and cache the element; a cached element that is already visible returns at once. */
+    public WebElement waitVisible(WebDriverWait wait) {
+        if (cached != null && isDisplayed()) return cached;
+        cached = wait.until(ExpectedConditions.visibilityOfElementLocated(by));
+        return cached;
+    }
+
+    /** Wait until clickable and cache the element. */
+    public WebElement waitClickable(WebDriverWait wait) {
+        cached = wait.until(ExpectedConditions.elementToBeClickable(by));
+        return cached;
+    }
+
+    private <T> T withRetry(Function<WebElement, T> action) {
+        try {
+            return action.apply(get());
+        } catch (StaleElementReferenceException e) {
+            cached = null;
+            return action.apply(get());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load run of the suite's journeys with {@link LoadGenerator}, always
+ * against the in-JVM {@link DemoblazeServer} (base.url is forced to local),
+ * so nothing outside the machine is hit.
+ *
+ * Not part of the normal run. Enable with e.g.
+ *   mvn test -Dtest=LoadBench -Dload=true -Dload.rate=50 -Dload.rampup.seconds=10 -Dload.duration.seconds=60
+ * and add browsers with -Dload.browsers=2 -Ddriver.pool.size=2 -Dbrowser.profile=headless.
+ * Results are printed and written to run.output.dir/load-report.csv; the
+ * run fails if more than load.max.error.rate of any step's calls failed.
+ */
+@EnabledIfSystemProperty(named = "load", matches = "true")
+public class LoadBench {
+
+    @Test
+    @DisplayName("Journeys under load: throughput and latency per step")
+    void load() throws Exception {
+        // browser users open pages through TestConfig.baseUrl()
+        String baseUrl = System.setProperty("base.url", "local");
+        LoadGenerator generator = new LoadGenerator(LoadGenerator.Settings.fromConfig(DemoblazeServer.shared().url()));
+        try {
+            generator.run();
+        } finally {
+            if (baseUrl == null) System.clearProperty("base.url");
+            else System.setProperty("base.url", baseUrl);
+        }
+        generator.report(Paths.get(TestConfig.get("run.output.dir", "run-results"), "load-report.csv"));
+
+        double maxErrorRate = TestConfig.getDouble("load.max.error.rate", 0.01);
+        // steps that failed every time have errors but no latencies
+        for (String step : generator.steps()) {
+            Histogram h = generator.latencies().get(step);
+            long calls = (h == null ? 0 : h.getTotalCount()) + generator.errors(step);
+            long errors = generator.errors(step);
+            assertTrue(errors <= maxErrorRate * calls, step + ": " + errors + " errors in " + calls + " calls");
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package com.Abdul_Raqeeb.selenium;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs the suite's user journeys as many concurrent virtual users.
+ *
+ * Journeys replay, at HTTP level, the requests the functional tests make:
+ * signup (SignUpTest), login (LoginTest), cart (CartTest: product, add,
+ * view, delete) and order (PlaceOrderTest: fill a cart, purchase). Users
+ * arrive at a fixed rate (open model: a slow server doesn't slow the
+ * arrivals), ramping up linearly at the start; a user that would exceed
+ * maxUsers in flight is counted as dropped instead of delaying the
+ * schedule. Optionally a share of users drives a real browser from
+ * {@link DriverPool} through the page objects instead.
+ *
+ * Every step's latency goes into an HdrHistogram; "&lt;journey&gt;.total"
+ * is measured from the user's scheduled arrival, so queueing shows up.
+ * Users run on virtual threads when the JVM has them (21+), otherwise on a
+ * cached pool of platform threads.
+ */
+public class LoadGenerator {
+    public static final List<String> JOURNEYS = List.of("signup", "login", "cart", "order");
+
+    public record Settings(String url, double rate, Duration rampUp, Duration duration, Map<String, Integer> mix,
+                           int maxUsers, int browsers, double browserShare, int loginUsers) {
+        public Settings {
+            // the login journey logs in as one of loginUsers accounts signed up before the run
+            if (mix.getOrDefault("login", 0) > 0 && loginUsers < 1) {
+                throw new IllegalArgumentException(
+                        "load.login.users must be at least 1 when load.journeys includes login, got: " + loginUsers);
+            }
+        }
+
+        /** From load.* keys: rate (users/s), rampup.seconds, duration.seconds, journeys (name:weight,...), ... */
+        public static Settings fromConfig(String url) {
+            Map<String, Integer> mix = new LinkedHashMap<>();
+            for (String part : TestConfig.get("load.journeys", "signup:1,login:3,cart:4,order:2").split(",")) {
+                String[] kv = part.trim().split(":");
+                if (!JOURNEYS.contains(kv[0])) throw new IllegalArgumentException("Unknown journey: " + kv[0]);
+                mix.put(kv[0], kv.length > 1 ? Integer.parseInt(kv[1]) : 1);
+            }
+            return new Settings(url,
+                    TestConfig.getDouble("load.rate", 20),
+                    Duration.ofSeconds(TestConfig.getInt("load.rampup.seconds", 10)),
+                    Duration.ofSeconds(TestConfig.getInt("load.duration.seconds", 60)),
+                    mix,
+                    TestConfig.getInt("load.max.users", 256),
+                    TestConfig.getInt("load.browsers", 0),
+                    TestConfig.getDouble("load.browser.share", 0.05),
+                    TestConfig.getInt("load.login.users", 20));
+        }
+    }
+
+    /** A request or browser action failed; ends that user's journey. */
+    static class StepFailed extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        StepFailed(String message) {
+            super(message);
+        }
+    }
+
+    private interface Action<T> {
+        T run() throws Exception;
+    }
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final Settings settings;
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    private final Map<String, Histogram> latencies = new ConcurrentSkipListMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+    private final List<String[]> accounts = new ArrayList<>();
+    private long elapsedNanos;
+
+    public LoadGenerator(Settings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Seconds after the start at which user k (0-based) arrives: arrivals
+     * ramp linearly from 0 to rate over rampUp, then stay at rate.
+     */
+    static double arrivalSeconds(long k, double rate, double rampSeconds) {
+        double rampArrivals = rate * rampSeconds / 2;
+        if (k < rampArrivals) return Math.sqrt(2 * k * rampSeconds / rate);
+        return rampSeconds + (k - rampArrivals) / rate;
+    }
+
+    /** Generate load for the configured duration, then wait for users still in flight. */
+    public void run() throws IOException, InterruptedException {
+        for (int i = 0; i < settings.loginUsers(); i++) {
+            String[] account = {"load_" + UUID.randomUUID().toString().substring(0, 12), "Load123!"};
+            post("/signup", Map.of("username", account[0], "password", encode(account[1])));
+            accounts.add(account);
+        }
+        // start the browsers now so session startup doesn't count as a user's latency
+        List<WebDriver> warm = new ArrayList<>();
+        for (int i = 0; i < settings.browsers(); i++) warm.add(DriverPool.acquire());
+        warm.forEach(DriverPool::release);
+
+        List<String> weighted = new ArrayList<>();
+        settings.mix().forEach((journey, weight) -> {
+            for (int i = 0; i < weight; i++) weighted.add(journey);
+        });
+
+        Semaphore inFlight = new Semaphore(settings.maxUsers());
+        Semaphore browsers = new Semaphore(settings.browsers());
+        double duration = settings.duration().toNanos() / 1e9;
+        double ramp = Math.min(settings.rampUp().toNanos() / 1e9, duration);
+        ExecutorService users = userExecutor();
+        long start = System.nanoTime();
+        try {
+            for (long k = 0; ; k++) {
+                double at = arrivalSeconds(k, settings.rate(), ramp);
+                if (at >= duration) break;
+                long scheduled = start + (long) (at * 1e9);
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+                if (!inFlight.tryAcquire()) {
+                    dropped.incrementAndGet();
+                    continue;
+                }
+                String journey = weighted.get(ThreadLocalRandom.current().nextInt(weighted.size()));
+                users.execute(() -> {
+                    try {
+                        boolean browser = ThreadLocalRandom.current().nextDouble() < settings.browserShare()
+                                && browsers.tryAcquire();
+                        try {
+                            runJourney(browser ? "browser" : journey, scheduled);
+                        } finally {
+                            if (browser) browsers.release();
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } finally {
+            users.shutdown();
+            users.awaitTermination(2, TimeUnit.MINUTES);
+            elapsedNanos = System.nanoTime() - start;
+        }
+    }
+
+    private void runJourney(String journey, long scheduled) {
+        try {
+            switch (journey) {
+                case "signup":
+                    signUp();
+                    break;
+                case "login":
+                    logIn();
+                    break;
+                case "cart":
+                    cart();
+                    break;
+                case "order":
+                    order();
+                    break;
+                case "browser":
+                    browserCart();
+                    break;
+                default:
+                    throw new IllegalArgumentException(journey);
+            }
+            record(journey + ".total", System.nanoTime() - scheduled);
+        } catch (StepFailed e) {
+            // already counted against its step
+        } catch (RuntimeException e) {
+            errors.computeIfAbsent(journey + ".total", s -> new LongAdder()).increment();
+        }
+    }
+
+    private void signUp() {
+        step("signup.home", () -> get("/index.html"));
+        step("signup.entries", () -> get("/entries"));
+        step("signup.signup", () -> post("/signup", Map.of(
+                "username", "load_" + UUID.randomUUID().toString().substring(0, 12), "password", encode("Load123!"))));
+    }
+
+    private void logIn() {
+        String[] account = accounts.get(ThreadLocalRandom.current().nextInt(accounts.size()));
+        step("login.home", () -> get("/index.html"));
+        String token = step("login.login", () -> post("/login",
+                Map.of("username", account[0], "password", encode(account[1])))).asText().replace("Auth_token: ", "");
+        step("login.check", () -> post("/check", Map.of("token", token)));
+    }
+
+    private void cart() {
+        String visitor = UUID.randomUUID().toString();
+        int product = 1 + ThreadLocalRandom.current().nextInt(9);
+        String item = UUID.randomUUID().toString();
+        step("cart.product", () -> get("/prod.html?idp_=" + product));
+        step("cart.view", () -> post("/view", Map.of("id", String.valueOf(product))));
+        step("cart.add", () -> post("/addtocart", Map.of("id", item, "cookie", visitor, "prod_id", product, "flag", false)));
+        step("cart.page", () -> get("/cart.html"));
+        step("cart.viewcart", () -> post("/viewcart", Map.of("cookie", visitor, "flag", false)));
+        step("cart.delete", () -> post("/deleteitem", Map.of("id", item)));
+    }
+
+    private void order() {
+        String visitor = UUID.randomUUID().toString();
+        for (int product : new int[]{1, 2}) {
+            step("order.add", () -> post("/addtocart", Map.of(
+                    "id", UUID.randomUUID().toString(), "cookie", visitor, "prod_id", product, "flag", false)));
+        }
+        step("order.page", () -> get("/cart.html"));
+        step("order.viewcart", () -> post("/viewcart", Map.of("cookie", visitor, "flag", false)));
+        step("order.purchase", () -> post("/deletecart", Map.of("cookie", visitor)));
+    }
+
+    /** CartTest through a real browser: product page, add to cart, cart page with the row. */
+    private void browserCart() {
+        WebDriver driver = DriverPool.acquire();
+        try {
+            FastWait wait = new FastWait(driver, Duration.ofSeconds(15));
+            ProductPage product = new ProductPage(driver, wait);
+            step("browser.product", () -> product.open(1));
+            step("browser.add", product::addToCart);
+            CartPage cart = new CartPage(driver, wait);
+            step("browser.cart", () -> {
+                if (!cart.open().waitForRows(15)) throw new StepFailed("cart stayed empty");
+                return null;
+            });
+        } finally {
+            DriverPool.release(driver);
+        }
+    }
+
+    private <T> T step(String name, Action<T> action) {
+        long start = System.nanoTime();
+        try {
+            T result = action.run();
+            record(name, System.nanoTime() - start);
+            return result;
+        } catch (Exception e) {
+            errors.computeIfAbsent(name, s -> new LongAdder()).increment();
+            throw e instanceof StepFailed ? (StepFailed) e : new StepFailed(name + ": " + e);
+        }
+    }
+
+    private void record(String name, long nanos) {
+        latencies.computeIfAbsent(name, s -> new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(10), 3))
+                .recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), TimeUnit.MINUTES.toMicros(10)));
+    }
+
+    private byte[] get(String path) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(settings.url() + path)).GET(), path);
+    }
+
+    private JsonNode post(String path, Map<String, Object> body) throws IOException, InterruptedException {
+        byte[] res = send(HttpRequest.newBuilder(URI.create(settings.url() + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body))), path);
+        JsonNode json = res.length == 0 ? mapper.createObjectNode() : mapper.readTree(res);
+        if (json.has("errorMessage")) throw new StepFailed(path + ": " + json.get("errorMessage").asText());
+        return json;
+    }
+
+    private byte[] send(HttpRequest.Builder req, String path) throws IOException, InterruptedException {
+        HttpResponse<byte[]> res = http.send(req.timeout(Duration.ofSeconds(30)).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (res.statusCode() != 200) throw new StepFailed(path + " returned HTTP " + res.statusCode());
+        return res.body();
+    }
+
+    private static String encode(String password) {
+        return Base64.getEncoder().encodeToString(password.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Virtual threads where available (the suite compiles for 17, so looked up reflectively). */
+    static ExecutorService userExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "load-user");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    public Map<String, Histogram> latencies() {
+        return latencies;
+    }
+
+    /** Every step that was timed or failed, sorted; a step that only ever failed has no latencies. */
+    public Set<String> steps() {
+        Set<String> steps = new TreeSet<>(latencies.keySet());
+        steps.addAll(errors.keySet());
+        return steps;
+    }
+
+    public long errors(String step) {
+        LongAdder n = errors.get(step);
+        return n == null ? 0 : n.sum();
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+
+    /** Print per-step throughput and latency percentiles and write them as CSV. */
+    public void report(Path csv) throws IOException {
+        double seconds = Math.max(elapsedNanos, 1) / 1e9;
+        List<String> rows = new ArrayList<>();
+        rows.add("step,count,errors,per_second,p50_ms,p95_ms,p99_ms,max_ms");
+        System.out.printf("%-18s %8s %7s %8s %9s %9s %9s %9s%n",
+                "step", "count", "errors", "per s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        Map<String, Histogram> all = new ConcurrentSkipListMap<>(latencies);
+        errors.keySet().forEach(step -> all.putIfAbsent(step, new Histogram(3)));
+        all.forEach((step, h) -> {
+            long count = h.getTotalCount();
+            double perSecond = count / seconds;
+            double p50 = h.getValueAtPercentile(50) / 1000.0, p95 = h.getValueAtPercentile(95) / 1000.0,
+                    p99 = h.getValueAtPercentile(99) / 1000.0, max = h.getMaxValue() / 1000.0;
+            System.out.printf("%-18s %8d %7d %8.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    step, count, errors(step), perSecond, p50, p95, p99, max);
+            rows.add(String.format(Locale.ROOT, "%s,%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f",
+                    step, count, errors(step), perSecond, p50, p95, p99, max));
+        });
+        System.out.printf("%.1f s, %d users dropped at load.max.users=%d%n", seconds, dropped(), settings.maxUsers());
+        Files.createDirectories(csv.toAbsolutePath().getParent());
+        Files.write(csv, rows);
+    }
+}
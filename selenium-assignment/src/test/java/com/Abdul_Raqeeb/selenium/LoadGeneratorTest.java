@@ -0,0 +1,59 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** {@link LoadGenerator} arrival schedule and a short run against a private {@link DemoblazeServer}. */
+public class LoadGeneratorTest {
+
+    @Test
+    @DisplayName("Arrivals ramp up linearly, then keep the rate")
+    void arrivals() {
+        // 10/s after a 4 s ramp: 20 users arrive during the ramp, the 20th exactly at its end
+        assertEquals(0, LoadGenerator.arrivalSeconds(0, 10, 4), 1e-9);
+        assertEquals(2, LoadGenerator.arrivalSeconds(5, 10, 4), 1e-9);
+        assertEquals(4, LoadGenerator.arrivalSeconds(20, 10, 4), 1e-9);
+        assertEquals(5, LoadGenerator.arrivalSeconds(30, 10, 4), 1e-9);
+        assertEquals(0.5, LoadGenerator.arrivalSeconds(5, 10, 0), 1e-9);
+    }
+
+    @Test
+    @DisplayName("The login journey needs at least one login account")
+    void loginUsersValidated() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> new LoadGenerator.Settings(
+                "http://localhost", 1, Duration.ZERO, Duration.ofSeconds(1), Map.of("login", 1), 1, 0, 0, 0));
+        assertTrue(e.getMessage().contains("load.login.users"), e.getMessage());
+        // without the login journey no accounts are needed
+        new LoadGenerator.Settings("http://localhost", 1, Duration.ZERO, Duration.ofSeconds(1), Map.of("cart", 1), 1, 0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("Every journey runs against the local server without errors")
+    void shortRun() throws IOException, InterruptedException {
+        DemoblazeServer server = new DemoblazeServer(0);
+        try {
+            LoadGenerator generator = new LoadGenerator(new LoadGenerator.Settings(server.url(), 40,
+                    Duration.ZERO, Duration.ofSeconds(1),
+                    Map.of("signup", 1, "login", 1, "cart", 1, "order", 1), 64, 0, 0, 3));
+            generator.run();
+
+            for (String journey : LoadGenerator.JOURNEYS) {
+                assertTrue(generator.latencies().containsKey(journey + ".total"), journey + " never completed");
+            }
+            // includes steps that only ever failed, which have no latencies
+            generator.steps().forEach(step -> assertEquals(0, generator.errors(step), step));
+            long users = LoadGenerator.JOURNEYS.stream()
+                    .mapToLong(j -> generator.latencies().get(j + ".total").getTotalCount()).sum();
+            assertEquals(40, users);
+            assertEquals(0, generator.dropped());
+        } finally {
+            server.stop();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/** The "Log in" dialog opened from the navbar. */
+public class LoginModal extends BasePage {
+    static final By USERNAME = By.id("loginusername");
+    static final By PASSWORD = By.id("loginpassword");
+    static final By SUBMIT = By.cssSelector("#logInModal .btn-primary");
+
+    private final LazyElement username = element(USERNAME);
+    private final LazyElement password = element(PASSWORD);
+    private final LazyElement submit = element(SUBMIT);
+
+    public LoginModal(WebDriver driver, WebDriverWait wait) {
+        super(driver, wait);
+    }
+
+    public LoginModal waitOpen() {
+        username.waitVisible(wait);
+        return this;
+    }
+
+    /** Fill in the form and press "Log in"; the outcome is a welcome text or an alert. */
+    public void logIn(String user, String pass) {
+        username.sendKeys(user);
+        password.sendKeys(pass);
+        submit.click();
+    }
+}
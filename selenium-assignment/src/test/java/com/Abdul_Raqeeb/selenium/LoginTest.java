@@ -1,49 +1,35 @@
 package com.Abdul_Raqeeb.selenium;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.junit.jupiter.api.*;
 import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
-public class LoginTest {
-    private WebDriver driver;
-    private WebDriverWait wait;
-    private final String BASE = "https://www.demoblaze.com";
-
-    @BeforeAll
-    void setup() {
-        WebDriverManager.chromedriver().setup();
-        driver = new ChromeDriver();
-        driver.manage().window().maximize();
-        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+public class LoginTest extends BaseTest {
+    @Override
+    protected Duration waitTimeout() {
+        return Duration.ofSeconds(10);
     }
 
     @Test
-    @DisplayName("Login with valid credentials (from SignUpTest)")
+    @DisplayName("Login with valid credentials")
     void testValidLogin() {
-        String[] creds = TestUtils.readCredentials();
-        if (creds == null) Assertions.fail("No credentials found — run SignUpTest first or create credentials file.");
-
-        driver.get(BASE);
-        driver.findElement(By.id("login2")).click();
-        wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("loginusername")));
-
-        driver.findElement(By.id("loginusername")).sendKeys(creds[0]);
-        driver.findElement(By.id("loginpassword")).sendKeys(creds[1]);
-        driver.findElement(By.xpath("//button[text()='Log in']")).click();
+        // the account is a precondition, not what this class tests
+        CredentialPool.Lease user = leaseUser();
+        HomePage home = new HomePage(driver, wait).open();
+        home.openLogin().logIn(user.username(), user.password());
 
         // wait for either welcome name or alert (failure)
         try {
-            wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("nameofuser")));
-            String name = driver.findElement(By.id("nameofuser")).getText();
-            assertTrue(name.contains(creds[0]), "Login should show welcome with username");
+            String name = home.waitForWelcome();
+            assertTrue(name.contains(user.username()), "Login should show welcome with username");
+            // later tests logged in as this user can restore this session instead of logging in
+            SessionCache sessions = SessionCache.shared();
+            if (sessions != null) sessions.save(driver, user.username());
         } catch (TimeoutException e) {
             // If alert appeared instead, capture text and fail
             if (ExpectedConditions.alertIsPresent() != null) {
@@ -64,24 +50,12 @@ public class LoginTest {
     @Test
     @DisplayName("Login with invalid credentials")
     void testInvalidLogin() {
-        driver.get(BASE);
-        driver.findElement(By.id("login2")).click();
-        wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("loginusername")));
+        HomePage home = new HomePage(driver, wait).open();
+        home.openLogin().logIn("invalid_user_" + System.currentTimeMillis(), "wrongpass");
 
-        driver.findElement(By.id("loginusername")).sendKeys("invalid_user_" + System.currentTimeMillis());
-        driver.findElement(By.id("loginpassword")).sendKeys("wrongpass");
-        driver.findElement(By.xpath("//button[text()='Log in']")).click();
-
-        wait.until(ExpectedConditions.alertIsPresent());
-        String text = driver.switchTo().alert().getText();
-        driver.switchTo().alert().accept();
+        String text = home.acceptAlert();
 
         assertTrue(text.toLowerCase().contains("user") || text.toLowerCase().contains("wrong"),
                 "Expected error alert for invalid login, got: " + text);
     }
-
-    @AfterAll
-    void teardown() {
-        if (driver != null) driver.quit();
-    }
 }
@@ -1,95 +1,32 @@
 package com.Abdul_Raqeeb.selenium;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.junit.jupiter.api.*;
-import org.openqa.selenium.*;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.support.ui.*;
-
-import java.time.Duration;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
-public class LogoutTest {
-    private WebDriver driver;
-    private WebDriverWait wait;
-    private final String BASE = "https://www.demoblaze.com";
-
-    @BeforeAll
-    public void setup() {
-        WebDriverManager.chromedriver().setup();
-        driver = new ChromeDriver();
-        driver.manage().window().maximize();
-        wait = new WebDriverWait(driver, Duration.ofSeconds(15));
-    }
-
+public class LogoutTest extends BaseTest {
     @Test
-    @DisplayName("Login using saved credentials and then logout")
+    @DisplayName("Logged-in user can log out")
     public void testLogout() {
-        String[] creds = TestUtils.readCredentials();
-        if (creds == null) {
-            fail("No credentials found. Run SignUpTest first (it saves credentials to test-credentials.txt).");
-        }
-        String username = creds[0];
-        String password = creds[1];
-
-        driver.get(BASE);
+        CredentialPool.Lease user = leaseUser();
+        String username = user.username();
 
-        // Open login modal
-        wait.until(ExpectedConditions.elementToBeClickable(By.id("login2"))).click();
-        wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("loginusername")));
-
-        // Enter credentials and submit
-        driver.findElement(By.id("loginusername")).sendKeys(username);
-        driver.findElement(By.id("loginpassword")).sendKeys(password);
-        driver.findElement(By.xpath("//button[text()='Log in']")).click();
-
-        // Wait for either welcome text or an alert (login failure)
-        try {
-            wait.until(ExpectedConditions.or(
-                    ExpectedConditions.visibilityOfElementLocated(By.id("nameofuser")),
-                    ExpectedConditions.alertIsPresent()
-            ));
-        } catch (TimeoutException te) {
-            fail("Neither welcome text nor login alert appeared after login attempt.");
-        }
-
-        // If alert present -> login failed; capture text and fail test
-        try {
-            Alert a = driver.switchTo().alert();
-            String alertText = a.getText();
-            a.accept();
-            fail("Login failed with alert: " + alertText);
-            return;
-        } catch (NoAlertPresentException ignored) {
-            // no alert, continue
-        } catch (UnhandledAlertException e) {
-            // unexpected other alert
-            try {
-                String txt = driver.switchTo().alert().getText();
-                driver.switchTo().alert().accept();
-                fail("Login failed with unexpected alert: " + txt);
-                return;
-            } catch (Exception ignored2) {}
-        }
+        // Session comes from the cache (or the API); only the logout itself goes through the UI
+        logIn(user);
+        HomePage home = new HomePage(driver, wait).open();
 
         // Verify login welcome name contains username (some sites show part of it)
-        WebElement welcome = wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("nameofuser")));
-        assertTrue(welcome.getText().toLowerCase().contains(username.toLowerCase()),
-                "Welcome text should contain username. Found: " + welcome.getText());
+        String welcome = home.waitForWelcome();
+        assertTrue(welcome.toLowerCase().contains(username.toLowerCase()),
+                "Welcome text should contain username. Found: " + welcome);
 
-        // Click logout
-        WebElement logout = wait.until(ExpectedConditions.elementToBeClickable(By.id("logout2")));
-        logout.click();
+        home.logOut();
+        // logging out ends the token on the server, so the cached session is dead too
+        SessionCache sessions = SessionCache.shared();
+        if (sessions != null) sessions.invalidate(username);
 
         // After logout, login button should reappear
-        wait.until(ExpectedConditions.visibilityOfElementLocated(By.id("login2")));
-        assertTrue(driver.findElement(By.id("login2")).isDisplayed(), "Login button should be visible after logout.");
-    }
-
-    @AfterAll
-    public void tearDown() {
-        if (driver != null) driver.quit();
+        assertTrue(home.waitForLoginLink(), "Login button should be visible after logout.");
     }
 }
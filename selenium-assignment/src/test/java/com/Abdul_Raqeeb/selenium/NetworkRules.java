@@ -0,0 +1,26 @@
+package com.Abdul_Raqeeb.selenium;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Per-class request blocking rules, added to the suite-wide network.deny /
+ * network.allow lists (see {@link RequestBlocker}). Patterns are URL globs
+ * where * matches anything, e.g. "*.png" or "*google-analytics.com*".
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+public @interface NetworkRules {
+    /** Extra URLs to block for this class. */
+    String[] deny() default {};
+
+    /** URLs never blocked for this class, even if a deny pattern matches. */
+    String[] allow() default {};
+
+    /** false turns blocking off for this class. */
+    boolean enabled() default true;
+}
@@ -0,0 +1,60 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/** The "Place order" dialog on the cart page and the confirmation that follows. */
+public class OrderModal extends BasePage {
+    static final By NAME = By.id("name");
+    static final By COUNTRY = By.id("country");
+    static final By CITY = By.id("city");
+    static final By CARD = By.id("card");
+    static final By MONTH = By.id("month");
+    static final By YEAR = By.id("year");
+    static final By PURCHASE = By.cssSelector("#orderModal .btn-primary");
+    static final By CONFIRMATION = By.cssSelector(".sweet-alert.showSweetAlert.visible");
+    static final By CONFIRM_OK = By.cssSelector(".sweet-alert button.confirm");
+
+    private final LazyElement name = element(NAME);
+    private final LazyElement country = element(COUNTRY);
+    private final LazyElement city = element(CITY);
+    private final LazyElement card = element(CARD);
+    private final LazyElement month = element(MONTH);
+    private final LazyElement year = element(YEAR);
+    private final LazyElement purchase = element(PURCHASE);
+    private final LazyElement confirmation = element(CONFIRMATION);
+    private final LazyElement confirmOk = element(CONFIRM_OK);
+
+    public OrderModal(WebDriver driver, WebDriverWait wait) {
+        super(driver, wait);
+    }
+
+    public OrderModal waitOpen() {
+        name.waitVisible(wait);
+        return this;
+    }
+
+    public OrderModal fill(String name, String country, String city, String card, String month, String year) {
+        this.name.sendKeys(name);
+        this.country.sendKeys(country);
+        this.city.sendKeys(city);
+        this.card.sendKeys(card);
+        this.month.sendKeys(month);
+        this.year.sendKeys(year);
+        return this;
+    }
+
+    /** Press "Purchase" and return the confirmation box ("Thank you for your purchase!"). */
+    public WebElement purchase() {
+        purchase.click();
+        return confirmation.waitVisible(wait);
+    }
+
+    /** Close the confirmation with "OK". */
+    public void confirm() {
+        confirmOk.click();
+        invalidate();
+    }
+}
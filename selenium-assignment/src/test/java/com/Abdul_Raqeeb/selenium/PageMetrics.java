@@ -0,0 +1,229 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * How fast a page rendered, as the browser saw it: Navigation Timing
+ * (ttfb, domContentLoaded, load, in ms from navigation start), first
+ * contentful paint, the Web Vitals LCP, CLS and INP (from buffered
+ * PerformanceObservers), a Resource Timing summary and, on Chrome, CDP
+ * Performance.getMetrics (JS heap, layout and style recalculation counts).
+ *
+ * Tests capture after key interactions with {@link #capture}, time an
+ * in-page update (an AJAX re-render, which is no navigation and so has no
+ * LCP of its own) with {@link #startUpdate} / {@link #finishUpdate}, and
+ * check budgets with {@link Snapshot#assertBudget}. With perf.capture=true (the
+ * perf lane, mvn test -Pperf) it is also registered as a WebDriverListener
+ * on pooled drivers and captures after every driver.get of a page; that
+ * costs an async script of at least 50ms per page, so it is off by default.
+ * Time metrics also go into {@link Timings} as page.&lt;metric&gt; steps, so
+ * they appear in the timing report and the run history; every snapshot is
+ * listed in run.output.dir/page-metrics.csv. Metrics a browser doesn't
+ * support are left out; HtmlUnit sessions, which don't render, get no
+ * capture at all, only update timings.
+ */
+public class PageMetrics implements WebDriverListener {
+    static final boolean ENABLED = TestConfig.getBoolean("perf.capture", false);
+    private static final List<String> TIMED = List.of("ttfb", "fcp", "domContentLoaded", "load", "lcp", "inp", "update");
+    private static final Map<String, String> CDP_METRICS = Map.of(
+            "JSHeapUsedSize", "jsHeapUsed", "LayoutCount", "layoutCount",
+            "RecalcStyleCount", "recalcStyleCount", "Nodes", "domNodes");
+
+    // buffered observers deliver past entries in a task, so give them a moment before answering
+    private static final String COLLECT =
+            "var done = arguments[arguments.length - 1], out = {};"
+            + "var p = window.performance;"
+            + "if (!p || !p.getEntriesByType) { done(out); return; }"
+            + "var nav = p.getEntriesByType('navigation')[0];"
+            + "if (nav) {"
+            + "  out.ttfb = nav.responseStart - nav.startTime;"
+            + "  out.domContentLoaded = nav.domContentLoadedEventEnd - nav.startTime;"
+            + "  if (nav.loadEventEnd > 0) out.load = nav.loadEventEnd - nav.startTime;"
+            + "  out.transferSize = nav.transferSize || 0;"
+            + "}"
+            + "p.getEntriesByType('paint').forEach(function (e) { if (e.name === 'first-contentful-paint') out.fcp = e.startTime; });"
+            + "var res = p.getEntriesByType('resource');"
+            + "out.resources = res.length; out.resourceBytes = 0; out.slowestResource = 0;"
+            + "res.forEach(function (e) { out.resourceBytes += e.transferSize || 0; out.slowestResource = Math.max(out.slowestResource, e.duration); });"
+            + "var types = (window.PerformanceObserver && PerformanceObserver.supportedEntryTypes) || [], observers = [];"
+            + "function observe(type, opts, cb) {"
+            + "  if (types.indexOf(type) < 0) return;"
+            + "  try { var o = new PerformanceObserver(function (l) { l.getEntries().forEach(cb); });"
+            + "        opts.type = type; opts.buffered = true; o.observe(opts); observers.push(o); } catch (e) {}"
+            + "}"
+            + "if (types.indexOf('layout-shift') >= 0) out.cls = 0;"
+            + "if (types.indexOf('event') >= 0) out.inp = 0;"
+            + "observe('largest-contentful-paint', {}, function (e) { out.lcp = Math.max(out.lcp || 0, e.startTime); });"
+            + "observe('layout-shift', {}, function (e) { if (!e.hadRecentInput) out.cls += e.value; });"
+            + "observe('event', {durationThreshold: 16}, function (e) { if (e.interactionId) out.inp = Math.max(out.inp, e.duration); });"
+            + "setTimeout(function () { observers.forEach(function (o) { o.disconnect(); }); done(out); }, 50);";
+
+    // args: [container]; notes the time of every change below it
+    private static final String START_UPDATE =
+            "var old = window.__pageUpdate; if (old) old.observer.disconnect();"
+            + "var el = arguments[0], t = window.__pageUpdate = {start: performance.now(), last: -1, el: el, html: el.innerHTML};"
+            + "t.observer = new MutationObserver(function () { t.last = performance.now(); });"
+            + "t.observer.observe(el, {childList: true, subtree: true, characterData: true});";
+    // HtmlUnit sends no mutation records for replaced content: there the poll notices the change
+    private static final String UPDATED =
+            "var t = window.__pageUpdate; if (!t) return false;"
+            + "if (t.last < 0 && t.el.innerHTML !== t.html) t.last = performance.now();"
+            + "return t.last >= 0;";
+    private static final String FINISH_UPDATE =
+            "var t = window.__pageUpdate; t.observer.disconnect(); delete window.__pageUpdate; return t.last - t.start;";
+
+    public record Snapshot(String test, String label, String url, Map<String, Double> values) {
+
+        /** A metric's value, or null when the browser didn't report it. */
+        public Double value(String metric) {
+            return values.get(metric);
+        }
+
+        /** Fail if a metric is above max; a metric that wasn't measured aborts the test, as its budget can't be checked. */
+        public void assertBudget(String metric, double max) {
+            Double value = values.get(metric);
+            assumeTrue(value != null, () -> metric + " not measured on " + url + ", budget not checked");
+            assertTrue(value <= max, String.format(Locale.ROOT, "%s on %s is %.1f, budget %.1f", metric, url, value, max));
+        }
+    }
+
+    private static final List<Snapshot> captured = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public void afterGet(WebDriver driver, String url) {
+        if (!ENABLED || url.startsWith("about:") || url.startsWith("data:")
+                || url.matches("(?i).*\\.(ico|png|jpe?g|gif|svg|css|js)(\\?.*)?$")) return;
+        capture(driver, "get");
+    }
+
+    /** Measure the page the driver is on now; label says when (e.g. "after category"). */
+    public static Snapshot capture(WebDriver driver, String label) {
+        return capture(driver, label, PageMetrics::publish);
+    }
+
+    /** Like {@link #capture(WebDriver, String)}, but hands the snapshot to sink instead of the run's report. */
+    static Snapshot capture(WebDriver driver, String label, Consumer<Snapshot> sink) {
+        Map<String, Double> values = new TreeMap<>();
+        String url = "";
+        try {
+            url = driver.getCurrentUrl();
+            if (BrowserOptions.isHtmlUnit(driver)) return new Snapshot(Timings.currentTest(), label, url, values);
+            Object raw = collect(driver);
+            if (raw instanceof Map) {
+                ((Map<?, ?>) raw).forEach((k, v) -> {
+                    if (v instanceof Number) values.put(k.toString(), ((Number) v).doubleValue());
+                });
+            }
+            if (driver instanceof HasCdp) {
+                HasCdp cdp = (HasCdp) driver;
+                cdp.executeCdpCommand("Performance.enable", Map.of());
+                Object metrics = cdp.executeCdpCommand("Performance.getMetrics", Map.of()).get("metrics");
+                if (metrics instanceof List) {
+                    for (Object m : (List<?>) metrics) {
+                        Map<?, ?> metric = (Map<?, ?>) m;
+                        String name = CDP_METRICS.get(String.valueOf(metric.get("name")));
+                        if (name != null) values.put(name, ((Number) metric.get("value")).doubleValue());
+                    }
+                }
+            }
+        } catch (WebDriverException | ClassCastException e) {
+            String message = String.valueOf(e.getMessage());
+            System.err.println("PageMetrics: could not measure " + url + ": " + message.split("\n")[0]);
+        }
+
+        Snapshot snapshot = new Snapshot(Timings.currentTest(), label, url, values);
+        sink.accept(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Start timing an in-page update of container, e.g. the product list a
+     * category link re-renders. Call right before the action, then
+     * {@link #finishUpdate}.
+     */
+    public static void startUpdate(WebDriver driver, WebElement container) {
+        ((JavascriptExecutor) driver).executeScript(START_UPDATE, container);
+    }
+
+    /**
+     * Wait until the update started by {@link #startUpdate} reached the DOM;
+     * the snapshot's "update" is the browser time in ms from the start to the
+     * container's last change so far. Where the browser reports no mutations
+     * (HtmlUnit) it is the time the wait first saw the change, an upper bound.
+     */
+    public static Snapshot finishUpdate(WebDriver driver, WebDriverWait wait, String label) {
+        wait.until(d -> (Boolean) ((JavascriptExecutor) d).executeScript(UPDATED));
+        Object ms = ((JavascriptExecutor) driver).executeScript(FINISH_UPDATE);
+        Map<String, Double> values = new TreeMap<>();
+        if (ms instanceof Number) values.put("update", ((Number) ms).doubleValue());
+        Snapshot snapshot = new Snapshot(Timings.currentTest(), label, driver.getCurrentUrl(), values);
+        publish(snapshot);
+        return snapshot;
+    }
+
+    /** Run the collector; some drivers allow async scripts no time at all, so it gets 5s and the old timeout is put back. */
+    private static Object collect(WebDriver driver) {
+        WebDriver.Timeouts timeouts = driver.manage().timeouts();
+        Duration previous = timeouts.getScriptTimeout();
+        boolean raise = previous != null && previous.toMillis() < 1000;
+        if (raise) timeouts.scriptTimeout(Duration.ofSeconds(5));
+        try {
+            return ((JavascriptExecutor) driver).executeAsyncScript(COLLECT);
+        } finally {
+            if (raise) timeouts.scriptTimeout(previous);
+        }
+    }
+
+    /** Time metrics into {@link Timings} as page.* steps, the snapshot into page-metrics.csv. */
+    private static void publish(Snapshot snapshot) {
+        for (String metric : TIMED) {
+            Double ms = snapshot.value(metric);
+            if (ms != null && ms >= 0) Timings.record(snapshot.test(), "page." + metric, (long) (ms * 1_000_000));
+        }
+        captured.add(snapshot);
+    }
+
+    /** All snapshots of the run as CSV: test, label, url, then one column per metric seen. */
+    static void writeCsv(Path file) throws IOException {
+        List<Snapshot> all;
+        synchronized (captured) {
+            all = new ArrayList<>(captured);
+        }
+        if (all.isEmpty()) return;
+        TreeSet<String> metrics = new TreeSet<>();
+        all.forEach(s -> metrics.addAll(s.values().keySet()));
+        List<String> lines = new ArrayList<>();
+        lines.add("test,label,url," + String.join(",", metrics));
+        for (Snapshot s : all) {
+            StringBuilder row = new StringBuilder(s.test() + "," + s.label() + "," + s.url().replace(",", "%2C"));
+            for (String metric : metrics) {
+                Double v = s.values().get(metric);
+                row.append(',').append(v == null ? "" : String.format(Locale.ROOT, "%.3f", v));
+            }
+            lines.add(row.toString());
+        }
+        Files.write(file, lines);
+    }
+}
@@ -0,0 +1,59 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.opentest4j.TestAbortedException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link PageMetrics} collection and budgets, with a {@link FakeDriver}
+ * answering the collector script. Snapshots go to a local sink, so the fake
+ * numbers never reach the run's timing report or history.
+ */
+public class PageMetricsTest {
+
+    @Test
+    @DisplayName("Collected metrics reach the sink and budgets are checked")
+    void captureAndBudget() {
+        FakeDriver driver = new FakeDriver()
+                .onAsyncScript(script -> Map.of("lcp", 1234.5, "cls", 0.02, "ttfb", 80L, "resources", 12L));
+        driver.get("http://localhost/index.html");
+        List<PageMetrics.Snapshot> sink = new ArrayList<>();
+        PageMetrics.Snapshot s = PageMetrics.capture(driver, "home", sink::add);
+
+        assertEquals(List.of(s), sink);
+        assertEquals(1234.5, s.value("lcp"));
+        assertEquals(12.0, s.value("resources"));
+        assertNull(s.value("inp"));
+
+        s.assertBudget("lcp", 1500);
+        assertThrows(TestAbortedException.class, () -> s.assertBudget("inp", 200)); // not measured
+        AssertionFailedError e = assertThrows(AssertionFailedError.class, () -> s.assertBudget("cls", 0.01));
+        assertTrue(e.getMessage().contains("cls on http://localhost/index.html"), e.getMessage());
+    }
+
+    @Test
+    @DisplayName("The script timeout is raised for the collector only, and failures without a message are survived")
+    void restoresScriptTimeout() {
+        FakeDriver driver = new FakeDriver();
+        driver.manage().timeouts().scriptTimeout(Duration.ZERO);
+        List<Duration> during = new ArrayList<>();
+        driver.onAsyncScript(script -> {
+            during.add(driver.manage().timeouts().getScriptTimeout());
+            throw new ClassCastException(); // no message
+        });
+
+        PageMetrics.Snapshot s = PageMetrics.capture(driver, "home", snapshot -> {});
+
+        assertEquals(List.of(Duration.ofSeconds(5)), during);
+        assertEquals(Duration.ZERO, driver.manage().timeouts().getScriptTimeout());
+        assertTrue(s.values().isEmpty());
+    }
+}
@@ -0,0 +1,27 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/** prod.html?idp_=N: a single product. */
+public class ProductPage extends BasePage {
+    static final By ADD_TO_CART = By.cssSelector("a.btn-success.btn-lg");
+
+    private final LazyElement addToCart = element(ADD_TO_CART);
+
+    public ProductPage(WebDriver driver, WebDriverWait wait) {
+        super(driver, wait);
+    }
+
+    public ProductPage open(int productId) {
+        navigate(TestConfig.baseUrl() + "/prod.html?idp_=" + productId);
+        return this;
+    }
+
+    /** Press "Add to cart" and accept the confirmation alert; returns the alert text. */
+    public String addToCart() {
+        addToCart.waitClickable(wait).click();
+        return acceptAlert();
+    }
+}
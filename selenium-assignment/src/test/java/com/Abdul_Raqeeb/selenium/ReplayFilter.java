@@ -0,0 +1,209 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Record/replay for read-only backend calls (the catalog: /entries, /bycat,
+ * /view by default), selected with network.replay:
+ *
+ * - record: calls go to the real backend and each response is saved under
+ *   replay.dir, content-addressed: requests/&lt;sha256 of method, URL and
+ *   body&gt;.properties holds status and headers and points at
+ *   bodies/&lt;sha256 of the body&gt;, so identical bodies are stored once.
+ * - replay: recorded responses are served from disk. The most recently
+ *   used replay.cache.entries responses stay in memory (LRU) and their
+ *   bodies are served as-is, without a copy per request. A request that was
+ *   never recorded goes to the backend, or gets a 504 with
+ *   replay.strict=true (offline runs).
+ *
+ * A recording that cannot be written or read is noted on the response
+ * ({@link Diagnostics#NOTE}), so it shows in the network log of a failed
+ * test's diagnostics.
+ *
+ * Only URLs matching replay.include are touched; everything else, including
+ * the mutating calls (/addtocart, /signup, /login, /deleteitem), passes
+ * through. Installed by {@link RequestFilters} behind the {@link RequestBlocker}.
+ */
+public class ReplayFilter implements Filter {
+    public enum Mode { RECORD, REPLAY }
+
+    // per-connection and encoding headers no longer describe the stored body
+    private static final Set<String> SKIPPED_HEADERS = Set.of(
+            "content-length", "content-encoding", "transfer-encoding", "connection", "keep-alive", "date");
+    private static ReplayFilter shared;
+
+    private final Mode mode;
+    private final Path dir;
+    private final List<Pattern> include;
+    private final boolean strict;
+    private final Map<String, Recorded> cache;
+
+    private record Recorded(int status, List<String[]> headers, byte[] body) {}
+
+    public ReplayFilter(Mode mode, Path dir, List<String> include, boolean strict, int cacheEntries) {
+        this.mode = mode;
+        this.dir = dir;
+        this.include = RequestBlocker.compile(include);
+        this.strict = strict;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Recorded> eldest) {
+                return size() > cacheEntries;
+            }
+        };
+    }
+
+    /** The filter configured by network.replay, shared by all tests; null when off. */
+    public static synchronized ReplayFilter fromConfig() {
+        String mode = TestConfig.get("network.replay", "off").toUpperCase(Locale.ROOT);
+        if (mode.equals("OFF")) return null;
+        if (shared == null) {
+            String api = TestConfig.apiUrl();
+            shared = new ReplayFilter(Mode.valueOf(mode),
+                    Paths.get(TestConfig.get("replay.dir", "replay-cache")),
+                    RequestBlocker.split(TestConfig.get("replay.include",
+                            api + "/entries*," + api + "/bycat*," + api + "/view*")),
+                    TestConfig.getBoolean("replay.strict", false),
+                    TestConfig.getInt("replay.cache.entries", 256));
+        }
+        return shared;
+    }
+
+    @Override
+    public HttpHandler apply(HttpHandler next) {
+        return req -> {
+            if (!RequestBlocker.matches(include, req.getUri())) return next.execute(req);
+            byte[] body = Contents.bytes(req.getContent());
+            req.setContent(Contents.bytes(body));
+            String key = sha256(req.getMethod() + "\n" + req.getUri() + "\n", body);
+            return mode == Mode.RECORD ? record(key, req, next) : replay(key, req, next);
+        };
+    }
+
+    private HttpResponse record(String key, HttpRequest req, HttpHandler next) {
+        HttpResponse res = next.execute(req);
+        byte[] body = Contents.bytes(res.getContent());
+        res.setContent(Contents.bytes(body));
+        if (res.getStatus() >= 500) return res; // don't pin a backend hiccup
+        try {
+            String bodyHash = sha256("", body);
+            Path bodyFile = dir.resolve("bodies").resolve(bodyHash);
+            if (!Files.exists(bodyFile)) writeAtomically(bodyFile, body);
+
+            Properties meta = new Properties();
+            meta.setProperty("method", req.getMethod().toString());
+            meta.setProperty("url", req.getUri());
+            meta.setProperty("status", String.valueOf(res.getStatus()));
+            meta.setProperty("body", bodyHash);
+            int i = 0;
+            for (String name : res.getHeaderNames()) {
+                if (SKIPPED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) continue;
+                for (String value : res.getHeaders(name)) meta.setProperty("header." + i++, name + ": " + value);
+            }
+            Path metaFile = dir.resolve("requests").resolve(key + ".properties");
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            meta.store(out, null);
+            writeAtomically(metaFile, out.toByteArray());
+            synchronized (cache) {
+                cache.remove(key);
+            }
+        } catch (IOException e) {
+            res.setAttribute(Diagnostics.NOTE, "replay: could not record: " + e);
+        }
+        return res;
+    }
+
+    private HttpResponse replay(String key, HttpRequest req, HttpHandler next) {
+        Recorded recorded;
+        String error = null;
+        try {
+            recorded = load(key);
+        } catch (IOException | RuntimeException e) {
+            error = "replay: unreadable recording: " + e;
+            recorded = null;
+        }
+        if (recorded == null) {
+            HttpResponse res = strict
+                    ? new HttpResponse().setStatus(504)
+                            .setContent(Contents.utf8String("Not recorded: " + req.getMethod() + " " + req.getUri()))
+                    : next.execute(req);
+            return error == null ? res : res.setAttribute(Diagnostics.NOTE, error);
+        }
+        HttpResponse res = new HttpResponse().setStatus(recorded.status());
+        for (String[] header : recorded.headers()) res.addHeader(header[0], header[1]);
+        // the supplier reads the array in place; nothing downstream writes to it
+        return res.setContent(Contents.bytes(recorded.body()));
+    }
+
+    private Recorded load(String key) throws IOException {
+        synchronized (cache) {
+            Recorded hit = cache.get(key);
+            if (hit != null) return hit;
+        }
+        Path metaFile = dir.resolve("requests").resolve(key + ".properties");
+        if (!Files.exists(metaFile)) return null;
+        Properties meta = new Properties();
+        try (InputStream in = Files.newInputStream(metaFile)) {
+            meta.load(in);
+        }
+        List<String[]> headers = new ArrayList<>();
+        for (int i = 0; meta.containsKey("header." + i); i++) {
+            String line = meta.getProperty("header." + i);
+            int colon = line.indexOf(':');
+            headers.add(new String[]{line.substring(0, colon), line.substring(colon + 1).trim()});
+        }
+        byte[] body = Files.readAllBytes(dir.resolve("bodies").resolve(meta.getProperty("body")));
+        Recorded recorded = new Recorded(Integer.parseInt(meta.getProperty("status")), headers, body);
+        synchronized (cache) {
+            cache.put(key, recorded);
+        }
+        return recorded;
+    }
+
+    /** Write via a temp file and rename, so a parallel reader never sees half a file. */
+    private static void writeAtomically(Path file, byte[] bytes) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            out.write(bytes);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String sha256(String prefix, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(prefix.getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) hex.append(String.format("%02x", b));
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
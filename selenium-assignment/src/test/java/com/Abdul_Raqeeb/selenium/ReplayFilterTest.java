@@ -0,0 +1,100 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Records through {@link ReplayFilter} against a fake backend, then replays with the backend gone. */
+public class ReplayFilterTest {
+    private static final String API = "https://api.example.test";
+    private static final List<String> CATALOG = List.of(API + "/entries*", API + "/bycat*", API + "/view*");
+
+    @TempDir
+    Path dir;
+
+    private final AtomicInteger backendCalls = new AtomicInteger();
+    private final HttpHandler backend = req -> {
+        backendCalls.incrementAndGet();
+        String body = Contents.string(req);
+        return new HttpResponse().setStatus(200)
+                .addHeader("Content-Type", "application/json")
+                .addHeader("Access-Control-Allow-Origin", "*")
+                .setContent(Contents.utf8String("{\"echo\":\"" + req.getUri() + " " + body + "\"}"));
+    };
+    private final HttpHandler offline = req -> {
+        throw new AssertionError("backend called in replay: " + req.getUri());
+    };
+
+    @Test
+    @DisplayName("Replays recorded catalog calls without the backend")
+    void recordThenReplay() throws IOException {
+        HttpHandler recording = new ReplayFilter(ReplayFilter.Mode.RECORD, dir, CATALOG, false, 16).andFinally(backend);
+        HttpResponse live = recording.execute(post(API + "/bycat", "{\"cat\":\"notebook\"}"));
+        recording.execute(post(API + "/bycat", "{\"cat\":\"phone\"}"));
+        recording.execute(new HttpRequest(HttpMethod.GET, API + "/entries"));
+        assertEquals(3, backendCalls.get());
+        try (Stream<Path> bodies = Files.list(dir.resolve("bodies"))) {
+            assertEquals(3, bodies.count());
+        }
+
+        HttpHandler replaying = new ReplayFilter(ReplayFilter.Mode.REPLAY, dir, CATALOG, true, 1).andFinally(offline);
+        for (int i = 0; i < 3; i++) {
+            HttpResponse replayed = replaying.execute(post(API + "/bycat", "{\"cat\":\"notebook\"}"));
+            assertEquals(200, replayed.getStatus());
+            assertEquals(Contents.string(live), Contents.string(replayed));
+            assertEquals("*", replayed.getHeader("Access-Control-Allow-Origin"));
+            // cache holds one entry, so alternating keys exercises eviction and re-reading
+            assertTrue(Contents.string(replaying.execute(post(API + "/bycat", "{\"cat\":\"phone\"}"))).contains("phone"));
+        }
+    }
+
+    @Test
+    @DisplayName("Mutating calls pass through; unrecorded calls fail in strict mode")
+    void passthroughAndStrictMiss() {
+        HttpHandler replaying = new ReplayFilter(ReplayFilter.Mode.REPLAY, dir, CATALOG, true, 16).andFinally(backend);
+
+        HttpResponse cart = replaying.execute(post(API + "/addtocart", "{\"id\":\"x\",\"prod_id\":1}"));
+        assertEquals(200, cart.getStatus());
+        assertEquals(1, backendCalls.get());
+
+        HttpResponse miss = replaying.execute(post(API + "/view", "{\"id\":\"1\"}"));
+        assertEquals(504, miss.getStatus());
+        assertEquals(1, backendCalls.get());
+
+        HttpHandler lenient = new ReplayFilter(ReplayFilter.Mode.REPLAY, dir, CATALOG, false, 16).andFinally(backend);
+        assertEquals(200, lenient.execute(post(API + "/view", "{\"id\":\"1\"}")).getStatus());
+        assertEquals(2, backendCalls.get());
+    }
+
+    @Test
+    @DisplayName("A recording that cannot be saved is noted for diagnostics")
+    void failedRecordingIsNoted() throws IOException {
+        Files.writeString(dir.resolve("bodies"), "not a directory");
+        HttpHandler recording = new ReplayFilter(ReplayFilter.Mode.RECORD, dir, CATALOG, false, 16).andFinally(backend);
+
+        HttpResponse res = recording.execute(new HttpRequest(HttpMethod.GET, API + "/entries"));
+        assertEquals(200, res.getStatus());
+        assertTrue(String.valueOf(res.getAttribute(Diagnostics.NOTE)).startsWith("replay: could not record"));
+    }
+
+    private static HttpRequest post(String url, String json) {
+        HttpRequest req = new HttpRequest(HttpMethod.POST, url);
+        req.addHeader("Content-Type", "application/json");
+        req.setContent(Contents.utf8String(json));
+        return req;
+    }
+}
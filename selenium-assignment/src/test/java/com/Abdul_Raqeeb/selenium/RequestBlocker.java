@@ -0,0 +1,151 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Filter that answers requests for assets no test looks at (analytics,
+ * web fonts, and per class e.g. product images) with a small local
+ * response instead of letting the browser fetch them.
+ *
+ * A URL is blocked when it matches a deny pattern and no allow pattern;
+ * patterns come from network.deny / network.allow plus the test class's
+ * {@link NetworkRules}. Blocked requests are fulfilled rather than failed,
+ * so pages don't run their error paths: a file of the same name under
+ * /network-stubs/ on the test classpath if there is one, otherwise an empty
+ * script/stylesheet/font or a 1x1 PNG, by extension.
+ */
+public class RequestBlocker implements Filter {
+    private static final byte[] PIXEL = Base64.getDecoder().decode(
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAQAAAC1HAwCAAAAC0lEQVR42mNkYAAAAAYAAjCB0C8AAAAASUVORK5CYII=");
+    private static final Map<String, Optional<byte[]>> stubFiles = new ConcurrentHashMap<>();
+
+    private final List<Pattern> deny;
+    private final List<Pattern> allow;
+
+    public RequestBlocker(List<String> deny, List<String> allow) {
+        this.deny = compile(deny);
+        this.allow = compile(allow);
+    }
+
+    /** Rules for a test class: config lists plus its {@link NetworkRules}; null if blocking is off. */
+    public static RequestBlocker forClass(Class<?> testClass) {
+        NetworkRules rules = testClass.getAnnotation(NetworkRules.class);
+        if (!TestConfig.getBoolean("network.blocking", true) || (rules != null && !rules.enabled())) return null;
+        List<String> deny = new ArrayList<>(split(TestConfig.get("network.deny", "")));
+        List<String> allow = new ArrayList<>(split(TestConfig.get("network.allow", "")));
+        if (rules != null) {
+            deny.addAll(List.of(rules.deny()));
+            allow.addAll(List.of(rules.allow()));
+        }
+        return deny.isEmpty() ? null : new RequestBlocker(deny, allow);
+    }
+
+    public boolean blocks(String url) {
+        return matches(deny, url) && !matches(allow, url);
+    }
+
+    @Override
+    public HttpHandler apply(HttpHandler next) {
+        return req -> blocks(req.getUri()) ? stub(req) : next.execute(req);
+    }
+
+    private static HttpResponse stub(HttpRequest req) {
+        String path = req.getUri().replaceAll("[?#].*$", "");
+        String name = path.substring(path.lastIndexOf('/') + 1);
+        String ext = name.contains(".") ? name.substring(name.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT) : "";
+
+        Optional<byte[]> file = name.isEmpty() ? Optional.empty()
+                : stubFiles.computeIfAbsent(name, RequestBlocker::loadStubFile);
+        String type;
+        byte[] body;
+        switch (ext) {
+            case "png": case "gif": case "jpg": case "jpeg": case "webp": case "ico": case "svg":
+                type = file.isPresent() ? imageType(ext) : "image/png";
+                body = file.orElse(PIXEL);
+                break;
+            case "js":
+                type = "application/javascript";
+                body = file.orElse(new byte[0]);
+                break;
+            case "css":
+                type = "text/css";
+                body = file.orElse(new byte[0]);
+                break;
+            case "woff": case "woff2": case "ttf": case "otf":
+                type = "font/" + ext;
+                body = file.orElse(new byte[0]);
+                break;
+            default:
+                if (file.isEmpty()) return new HttpResponse().setStatus(204);
+                type = "application/octet-stream";
+                body = file.get();
+        }
+        return new HttpResponse()
+                .setStatus(200)
+                .addHeader("Content-Type", type)
+                .addHeader("Cache-Control", "max-age=3600")
+                .setContent(Contents.bytes(body));
+    }
+
+    private static String imageType(String ext) {
+        switch (ext) {
+            case "jpg": return "image/jpeg";
+            case "svg": return "image/svg+xml";
+            case "ico": return "image/x-icon";
+            default: return "image/" + ext;
+        }
+    }
+
+    private static Optional<byte[]> loadStubFile(String name) {
+        try (InputStream in = RequestBlocker.class.getResourceAsStream("/network-stubs/" + name)) {
+            return in == null ? Optional.empty() : Optional.of(in.readAllBytes());
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    static boolean matches(List<Pattern> patterns, String url) {
+        for (Pattern p : patterns) {
+            if (p.matcher(url).matches()) return true;
+        }
+        return false;
+    }
+
+    /** URL globs (* = anything) as regexes. */
+    static List<Pattern> compile(List<String> globs) {
+        List<Pattern> patterns = new ArrayList<>();
+        for (String glob : globs) {
+            String[] parts = glob.split("\\*", -1);
+            StringBuilder regex = new StringBuilder();
+            for (int i = 0; i < parts.length; i++) {
+                if (i > 0) regex.append(".*");
+                regex.append(Pattern.quote(parts[i]));
+            }
+            patterns.add(Pattern.compile(regex.toString()));
+        }
+        return patterns;
+    }
+
+    static List<String> split(String list) {
+        List<String> items = new ArrayList<>();
+        for (String item : list.split(",")) {
+            if (!item.isBlank()) items.add(item.trim());
+        }
+        return items;
+    }
+}
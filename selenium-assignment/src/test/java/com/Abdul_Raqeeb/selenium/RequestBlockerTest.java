@@ -0,0 +1,64 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** {@link RequestBlocker} rules and stub responses, without a browser. */
+public class RequestBlockerTest {
+    private static final HttpHandler ORIGIN = req -> new HttpResponse().setStatus(200).setContent(Contents.utf8String("origin"));
+
+    @NetworkRules(deny = "*/imgs/*", allow = "*/imgs/keep.png")
+    static class Annotated {}
+
+    @NetworkRules(enabled = false)
+    static class Disabled {}
+
+    @Test
+    @DisplayName("Deny patterns block, allow patterns win")
+    void denyAndAllow() {
+        RequestBlocker blocker = new RequestBlocker(List.of("*google-analytics.com*", "*.woff*"), List.of("*/keep.woff2"));
+        assertTrue(blocker.blocks("https://www.google-analytics.com/analytics.js"));
+        assertTrue(blocker.blocks("https://www.demoblaze.com/fonts/glyphicons.woff2?v=3"));
+        assertFalse(blocker.blocks("https://www.demoblaze.com/fonts/keep.woff2"));
+        assertFalse(blocker.blocks("https://www.demoblaze.com/index.html"));
+    }
+
+    @Test
+    @DisplayName("Class rules add to the configured lists")
+    void classRules() {
+        RequestBlocker blocker = RequestBlocker.forClass(Annotated.class);
+        assertNotNull(blocker);
+        assertTrue(blocker.blocks("https://www.demoblaze.com/imgs/galaxy_s6.jpg"));
+        assertFalse(blocker.blocks("https://www.demoblaze.com/imgs/keep.png"));
+        // from network.deny in config.properties
+        assertTrue(blocker.blocks("https://www.googletagmanager.com/gtag/js?id=1"));
+        assertNull(RequestBlocker.forClass(Disabled.class));
+    }
+
+    @Test
+    @DisplayName("Blocked requests get a local stub, others pass through")
+    void stubsBlockedRequests() {
+        HttpHandler handler = RequestBlocker.forClass(Annotated.class).andFinally(ORIGIN);
+
+        HttpResponse image = handler.execute(new HttpRequest(HttpMethod.GET, "https://www.demoblaze.com/imgs/galaxy_s6.jpg"));
+        assertEquals(200, image.getStatus());
+        assertEquals("image/png", image.getHeader("Content-Type"));
+        assertTrue(Contents.bytes(image.getContent()).length > 0);
+
+        HttpResponse script = handler.execute(new HttpRequest(HttpMethod.GET, "https://www.google-analytics.com/analytics.js"));
+        assertEquals("application/javascript", script.getHeader("Content-Type"));
+        assertEquals(0, Contents.bytes(script.getContent()).length);
+
+        HttpResponse page = handler.execute(new HttpRequest(HttpMethod.GET, "https://www.demoblaze.com/index.html"));
+        assertEquals("origin", Contents.string(page));
+    }
+}
@@ -0,0 +1,63 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.http.Filter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Routes a browser's requests through the suite's network filters for the
+ * duration of one test, using Selenium's {@link NetworkInterceptor} (CDP
+ * Fetch). The chain is built per test class: the {@link RequestBlocker}
+ * first, then the {@link ReplayFilter} when network.replay is on; what
+ * passes through is logged to the session's {@link Diagnostics} and
+ * recorded in the {@link ImpactMap}. Drivers
+ * without DevTools run unfiltered.
+ */
+public class RequestFilters {
+    private static final Map<WebDriver, NetworkInterceptor> active = new ConcurrentHashMap<>();
+    private static volatile boolean unsupportedLogged;
+
+    /** Start filtering for a test of testClass; does nothing if no filter applies. */
+    public static void install(WebDriver driver, Class<?> testClass) {
+        Filter chain = chainFor(testClass);
+        if (chain == null) return;
+        Diagnostics diagnostics = Diagnostics.of(driver);
+        if (diagnostics != null) chain = diagnostics.networkFilter().andThen(chain);
+        if (ImpactMap.RECORDING) chain = ImpactMap.networkFilter(Timings.currentTest()).andThen(chain);
+        if (!(driver instanceof HasDevTools)) {
+            if (!unsupportedLogged) {
+                unsupportedLogged = true;
+                System.out.println("RequestFilters: driver has no DevTools, requests are not filtered");
+            }
+            return;
+        }
+        try {
+            active.put(driver, new NetworkInterceptor(driver, chain));
+        } catch (WebDriverException e) {
+            System.err.println("RequestFilters: could not intercept requests: " + e.getMessage());
+        }
+    }
+
+    /** Stop filtering; call before the driver goes back to the pool. */
+    public static void uninstall(WebDriver driver) {
+        NetworkInterceptor interceptor = active.remove(driver);
+        if (interceptor == null) return;
+        try {
+            interceptor.close();
+        } catch (RuntimeException e) {
+            System.err.println("RequestFilters: could not stop intercepting: " + e.getMessage());
+        }
+    }
+
+    static Filter chainFor(Class<?> testClass) {
+        Filter chain = RequestBlocker.forClass(testClass);
+        ReplayFilter replay = ReplayFilter.fromConfig();
+        if (replay != null) chain = chain == null ? replay : chain.andThen(replay);
+        return chain;
+    }
+}
@@ -0,0 +1,140 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.opentest4j.TestAbortedException;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Retries failed browser tests and keeps failures of known-flaky tests
+ * from breaking the build.
+ *
+ * A failed test is run again up to retry.max times, each time after its
+ * &#64;AfterEach and &#64;BeforeEach methods have run again, so it gets a
+ * reset browser from {@link DriverPool} and fresh preconditions. All
+ * retries in the JVM share one time budget (retry.budget.seconds); once
+ * it is used up, failures are reported straight away. Every outcome goes
+ * to the {@link FlakeStore}.
+ *
+ * Tests the store has quarantined run in a separate lane, picked with
+ * flaky.lane: "all" (default) runs everything but reports a quarantined
+ * test's failure as aborted (skipped) instead of failed, "main" skips
+ * quarantined tests, "quarantine" runs only them (mvn test -Pquarantine).
+ */
+public class RetryExtension implements InvocationInterceptor, ExecutionCondition {
+    private static final AtomicLong budgetNanos =
+            new AtomicLong(TestConfig.getInt("retry.budget.seconds", 120) * 1_000_000_000L);
+
+    private final FlakeStore store;
+
+    public RetryExtension() {
+        this(null);
+    }
+
+    /** With a specific store instead of {@link FlakeStore#shared()}. */
+    public RetryExtension(FlakeStore store) {
+        this.store = store;
+    }
+
+    private FlakeStore store() {
+        return store != null ? store : FlakeStore.shared();
+    }
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        if (context.getTestMethod().isEmpty()) return ConditionEvaluationResult.enabled("not a test method");
+        String lane = TestConfig.get("flaky.lane", "all");
+        boolean quarantined = store().isQuarantined(testName(context));
+        if (lane.equals("main") && quarantined) {
+            return ConditionEvaluationResult.disabled("quarantined as flaky, runs in the quarantine lane");
+        }
+        if (lane.equals("quarantine") && !quarantined) {
+            return ConditionEvaluationResult.disabled("not quarantined");
+        }
+        return ConditionEvaluationResult.enabled("lane " + lane);
+    }
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                    ExtensionContext context) throws Throwable {
+        String test = testName(context);
+        FlakeStore store = store();
+        Throwable failure;
+        try {
+            invocation.proceed();
+            store.record(test, FlakeStore.Outcome.PASSED);
+            return;
+        } catch (TestAbortedException e) {
+            throw e;
+        } catch (Throwable e) {
+            failure = e;
+        }
+
+        Object target = invocationContext.getTarget().orElse(null);
+        int maxRetries = target != null && retryable(target.getClass()) ? TestConfig.getInt("retry.max", 1) : 0;
+        for (int attempt = 1; attempt <= maxRetries; attempt++) {
+            if (budgetNanos.get() <= 0) {
+                System.out.println("RetryExtension: retry budget used up, not retrying " + test);
+                break;
+            }
+            System.out.println("RetryExtension: retrying " + test + " (" + attempt + "/" + maxRetries + ") after: " + failure);
+            long start = System.nanoTime();
+            try {
+                rerun(target, invocationContext);
+                System.out.println("RetryExtension: " + test + " passed on retry " + attempt);
+                store.record(test, FlakeStore.Outcome.FLAKY);
+                return;
+            } catch (TestAbortedException e) {
+                throw e;
+            } catch (Throwable e) {
+                e.addSuppressed(failure);
+                failure = e;
+            } finally {
+                budgetNanos.addAndGet(-(System.nanoTime() - start));
+            }
+        }
+
+        store.record(test, FlakeStore.Outcome.FAILED);
+        if (store.isQuarantined(test) && TestConfig.get("flaky.lane", "all").equals("all")) {
+            throw new TestAbortedException("Quarantined flaky test failed, not failing the build: " + failure, failure);
+        }
+        throw failure;
+    }
+
+    /** Lifecycle methods are invoked directly on retry, so they must not need injected parameters. */
+    private static boolean retryable(Class<?> testClass) {
+        return teardown(testClass).stream().allMatch(m -> m.getParameterCount() == 0)
+                && setup(testClass).stream().allMatch(m -> m.getParameterCount() == 0);
+    }
+
+    /** Tear down and set up the test instance again, then invoke the test method directly. */
+    private static void rerun(Object target, ReflectiveInvocationContext<Method> invocationContext) {
+        for (Method m : teardown(target.getClass())) ReflectionSupport.invokeMethod(m, target);
+        for (Method m : setup(target.getClass())) ReflectionSupport.invokeMethod(m, target);
+        ReflectionSupport.invokeMethod(invocationContext.getExecutable(), target,
+                invocationContext.getArguments().toArray());
+    }
+
+    private static List<Method> teardown(Class<?> testClass) {
+        return AnnotationSupport.findAnnotatedMethods(testClass, AfterEach.class, HierarchyTraversalMode.BOTTOM_UP);
+    }
+
+    private static List<Method> setup(Class<?> testClass) {
+        return AnnotationSupport.findAnnotatedMethods(testClass, BeforeEach.class, HierarchyTraversalMode.TOP_DOWN);
+    }
+
+    static String testName(ExtensionContext context) {
+        return context.getRequiredTestClass().getSimpleName() + "." + context.getRequiredTestMethod().getName();
+    }
+}
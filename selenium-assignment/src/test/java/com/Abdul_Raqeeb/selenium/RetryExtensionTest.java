@@ -0,0 +1,133 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+/** {@link RetryExtension} and {@link FlakeStore}, running small sample classes through the JUnit launcher. */
+public class RetryExtensionTest {
+
+    @TempDir
+    Path dir;
+
+    static FlakeStore store;
+    static int setUps;
+    static int calls;
+
+    // each sample class binds the store current when it is first run, so each test uses its own class
+
+    /** Fails on the first call only. */
+    static class Flaky {
+        @RegisterExtension
+        static RetryExtension retry = new RetryExtension(store);
+
+        @BeforeEach
+        void setUp() {
+            setUps++;
+        }
+
+        @Test
+        void once() {
+            if (++calls == 1) fail("first attempt");
+        }
+    }
+
+    static class Broken {
+        @RegisterExtension
+        static RetryExtension retry = new RetryExtension(store);
+
+        @Test
+        void always() {
+            calls++;
+            fail("broken");
+        }
+    }
+
+    /** Same as Broken, for a store that already quarantines it. */
+    static class Quarantined {
+        @RegisterExtension
+        static RetryExtension retry = new RetryExtension(store);
+
+        @Test
+        void always() {
+            fail("broken");
+        }
+    }
+
+    private TestExecutionSummary run(Class<?> testClass) {
+        setUps = 0;
+        calls = 0;
+        // keep the suite's own listeners (timings, history, Spira) out of the nested run
+        Launcher launcher = LauncherFactory.create(LauncherConfig.builder()
+                .enableTestExecutionListenerAutoRegistration(false)
+                .enablePostDiscoveryFilterAutoRegistration(false)
+                .build());
+        SummaryGeneratingListener summary = new SummaryGeneratingListener();
+        launcher.execute(request().selectors(selectClass(testClass)).build(), summary);
+        return summary.getSummary();
+    }
+
+    private FlakeStore newStore(String content) throws IOException {
+        Path file = dir.resolve("flake-store.txt");
+        if (content != null) Files.writeString(file, content);
+        return new FlakeStore(file, 5, 0.4, 3);
+    }
+
+    @Test
+    @DisplayName("A test that passes on retry is reported passed and recorded as flaky")
+    void retriesOnce() throws IOException {
+        store = newStore(null);
+        TestExecutionSummary summary = run(Flaky.class);
+        assertEquals(1, summary.getTestsSucceededCount());
+        assertEquals(2, calls);
+        assertEquals(2, setUps, "setup runs again before the retry");
+        assertEquals("R", store.read().get("Flaky.once"));
+    }
+
+    @Test
+    @DisplayName("A test that keeps failing fails and is recorded as failed")
+    void keepsFailing() throws IOException {
+        store = newStore(null);
+        TestExecutionSummary summary = run(Broken.class);
+        assertEquals(1, summary.getTestsFailedCount());
+        assertEquals(2, calls);
+        assertEquals("F", store.read().get("Broken.always"));
+    }
+
+    @Test
+    @DisplayName("A quarantined test's failure is reported as aborted")
+    void quarantinedFailureAborts() throws IOException {
+        store = newStore("Quarantined.always=PRPRR\n");
+        assertTrue(store.isQuarantined("Quarantined.always"));
+        TestExecutionSummary summary = run(Quarantined.class);
+        assertEquals(0, summary.getTestsFailedCount());
+        assertEquals(1, summary.getTestsAbortedCount());
+        assertEquals("RPRRF", store.read().get("Quarantined.always"), "history is capped at the window");
+    }
+
+    @Test
+    @DisplayName("Quarantine needs enough runs and a high enough flake rate")
+    void quarantineRule() throws IOException {
+        FlakeStore s = newStore(null);
+        assertFalse(s.isFlaky("RR"), "too few runs");
+        assertFalse(s.isFlaky("PPPPR"));
+        assertTrue(s.isFlaky("PRPR"));
+        assertFalse(s.isFlaky("FFFF"), "consistent failures are broken, not flaky");
+        assertEquals(0.5, FlakeStore.flakeRate("PRPR"));
+    }
+}
@@ -0,0 +1,49 @@
+package com.Abdul_Raqeeb.selenium;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fixed-size buffer that keeps the most recent items; adding to a full
+ * buffer overwrites the oldest one. Thread-safe.
+ */
+public class RingBuffer<T> {
+    private final Object[] items;
+    private int next;
+    private long added;
+
+    public RingBuffer(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        items = new Object[capacity];
+    }
+
+    public synchronized void add(T item) {
+        items[next] = item;
+        next = (next + 1) % items.length;
+        added++;
+    }
+
+    /** Items currently held, oldest first. */
+    @SuppressWarnings("unchecked")
+    public synchronized List<T> snapshot() {
+        int size = (int) Math.min(added, items.length);
+        List<T> out = new ArrayList<>(size);
+        int first = added > items.length ? next : 0;
+        for (int i = 0; i < size; i++) {
+            out.add((T) items[(first + i) % items.length]);
+        }
+        return out;
+    }
+
+    /** Items that were overwritten since the last clear. */
+    public synchronized long dropped() {
+        return Math.max(0, added - items.length);
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(items, null);
+        next = 0;
+        added = 0;
+    }
+}
@@ -0,0 +1,220 @@
+package com.Abdul_Raqeeb.selenium;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of past runs: per-test and per-step durations plus the
+ * outcome that was reported to Spira, kept in one binary file
+ * (history.file, default run-results/run-history.bin).
+ *
+ * Each run is one block: magic, payload length, payload, CRC32. A block
+ * that was cut off (a killed JVM) or fails its checksum ends the read, so a
+ * torn tail never poisons older data; the next append trims it off. Appends
+ * take a file lock, so runs in parallel JVMs can share the file.
+ *
+ * Query from the command line, e.g. the p95 of a test over its last 200 runs:
+ *   mvn -q exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.Abdul_Raqeeb.selenium.RunHistory
+ *       -Dexec.args="CartTest.testAddAndRemoveCart test 95 200"
+ */
+public class RunHistory {
+    /** Step name under which a test's whole duration is stored. */
+    public static final String TEST_STEP = "test";
+    private static final int MAGIC = 0x52484C31; // "RHL1"
+    // stored status codes are positions in this list: only append, never reorder or remove
+    private static final List<SpiraMap.Status> STATUS_CODES = List.of(
+            SpiraMap.Status.FAILED, SpiraMap.Status.PASSED, SpiraMap.Status.NOT_RUN,
+            SpiraMap.Status.NOT_APPLICABLE, SpiraMap.Status.BLOCKED, SpiraMap.Status.CAUTION);
+
+    public record Entry(String test, String step, SpiraMap.Status status, long micros) {}
+
+    public record Run(long startedAt, List<Entry> entries) {}
+
+    private final Path file;
+
+    public RunHistory(Path file) {
+        this.file = file;
+    }
+
+    public static RunHistory fromConfig() {
+        return new RunHistory(Paths.get(TestConfig.get("history.file",
+                Paths.get(TestConfig.get("run.output.dir", "run-results"), "run-history.bin").toString())));
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public void append(Run run) throws IOException {
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(payload)) {
+            out.writeLong(run.startedAt());
+            out.writeInt(run.entries().size());
+            for (Entry e : run.entries()) {
+                out.writeUTF(e.test());
+                out.writeUTF(e.step());
+                out.writeByte(e.status() == null ? -1 : STATUS_CODES.indexOf(e.status()));
+                out.writeLong(e.micros());
+            }
+        }
+        byte[] bytes = payload.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        ByteBuffer block = ByteBuffer.allocate(16 + bytes.length);
+        block.putInt(MAGIC).putInt(bytes.length).put(bytes).putLong(crc.getValue()).flip();
+
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            FileLock lock = channel.lock();
+            try {
+                // drop a torn tail first, or every later block would sit behind it unread
+                long end = scan(Channels.newInputStream(channel.position(0)), channel.size(), null);
+                if (end < channel.size()) channel.truncate(end);
+                channel.position(end);
+                while (block.hasRemaining()) channel.write(block);
+            } finally {
+                lock.release();
+            }
+        }
+    }
+
+    /** Every complete run in the file, oldest first. */
+    public List<Run> read() throws IOException {
+        List<Run> runs = new ArrayList<>();
+        if (!Files.exists(file)) return runs;
+        try (InputStream in = Files.newInputStream(file)) {
+            scan(in, Files.size(file), runs);
+        }
+        return runs;
+    }
+
+    /**
+     * Read blocks until the end or the first bad one; adds runs if given and
+     * returns the valid length. size is the file's length, so a corrupt
+     * payload length is caught before anything is allocated for it.
+     */
+    private static long scan(InputStream raw, long size, List<Run> runs) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(raw));
+        long valid = 0;
+        while (true) {
+            byte[] bytes;
+            try {
+                if (in.readInt() != MAGIC) break;
+                int length = in.readInt();
+                if (length < 0 || length > size - valid - 16) break; // corrupt, or cut off
+                bytes = new byte[length];
+                in.readFully(bytes);
+                CRC32 crc = new CRC32();
+                crc.update(bytes);
+                if (in.readLong() != crc.getValue()) break;
+            } catch (EOFException e) {
+                break;
+            }
+            valid += 16 + bytes.length;
+            if (runs == null) continue;
+            DataInputStream block = new DataInputStream(new ByteArrayInputStream(bytes));
+            long startedAt = block.readLong();
+            int count = block.readInt();
+            List<Entry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String test = block.readUTF();
+                String step = block.readUTF();
+                int status = block.readByte();
+                // a code this version doesn't know (written by a newer one) reads as no status
+                SpiraMap.Status decoded = status >= 0 && status < STATUS_CODES.size() ? STATUS_CODES.get(status) : null;
+                entries.add(new Entry(test, step, decoded, block.readLong()));
+            }
+            runs.add(new Run(startedAt, entries));
+        }
+        return valid;
+    }
+
+    /**
+     * Percentile (0-100, nearest rank) of a test's step duration in
+     * microseconds over its last runs, counting passed runs only; -1 if
+     * there are none.
+     */
+    public long percentile(String test, String step, double pct, int lastRuns) throws IOException {
+        return percentile(durations(read(), test, step, lastRuns), pct);
+    }
+
+    /**
+     * Tests in current that passed but took longer than (1 + threshold) x the
+     * p95 of their previous passed runs in history (the last window runs,
+     * needing at least minRuns of them). One message per regression.
+     */
+    public static List<String> regressions(List<Run> history, Run current, int window, double threshold, int minRuns) {
+        List<String> flagged = new ArrayList<>();
+        for (Entry e : current.entries()) {
+            if (!TEST_STEP.equals(e.step()) || e.status() != SpiraMap.Status.PASSED) continue;
+            List<Long> past = durations(history, e.test(), TEST_STEP, window);
+            if (past.size() < minRuns) continue;
+            long p95 = percentile(past, 95);
+            if (p95 > 0 && e.micros() > p95 * (1 + threshold)) {
+                flagged.add(String.format(Locale.ROOT, "%s took %.2fs, p95 of last %d runs is %.2fs (+%.0f%%)",
+                        e.test(), e.micros() / 1e6, past.size(), p95 / 1e6, (e.micros() * 100.0 / p95) - 100));
+            }
+        }
+        return flagged;
+    }
+
+    private static List<Long> durations(List<Run> runs, String test, String step, int lastRuns) {
+        List<Long> values = new ArrayList<>();
+        for (int i = runs.size() - 1; i >= 0 && values.size() < lastRuns; i--) {
+            for (Entry e : runs.get(i).entries()) {
+                if (e.test().equals(test) && e.step().equals(step) && e.status() == SpiraMap.Status.PASSED) {
+                    values.add(e.micros());
+                }
+            }
+        }
+        return values;
+    }
+
+    private static long percentile(List<Long> values, double pct) {
+        if (values.isEmpty()) return -1;
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int rank = (int) Math.ceil(pct / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, Math.min(sorted.size() - 1, rank - 1)));
+    }
+
+    /** args: test [step] [percentile] [last runs], e.g. CartTest.testAddAndRemoveCart test 95 200 */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("usage: RunHistory <Class.method> [step=test] [percentile=95] [runs=200]");
+            return;
+        }
+        String step = args.length > 1 ? args[1] : TEST_STEP;
+        double pct = args.length > 2 ? Double.parseDouble(args[2]) : 95;
+        int runs = args.length > 3 ? Integer.parseInt(args[3]) : 200;
+        RunHistory history = fromConfig();
+        long value = history.percentile(args[0], step, pct, runs);
+        if (value < 0) {
+            System.out.println("No passed runs of " + args[0] + " / " + step + " in " + history.file());
+        } else {
+            System.out.printf(Locale.ROOT, "p%s of %s / %s over last %d runs: %.1f ms%n",
+                    pct == Math.rint(pct) ? String.valueOf((long) pct) : String.valueOf(pct),
+                    args[0], step, runs, value / 1000.0);
+        }
+    }
+}
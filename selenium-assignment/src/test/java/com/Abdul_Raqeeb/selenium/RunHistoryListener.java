@@ -0,0 +1,79 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.HdrHistogram.Histogram;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adds each finished run to {@link RunHistory} and flags tests that got
+ * slower than their own history.
+ *
+ * For every test it stores the outcome (same mapping as Spira), the whole
+ * duration and the time spent in each step from {@link Timings}. Before
+ * appending, each passed test is compared with the p95 of its last
+ * history.window passed runs; anything more than history.regression.threshold
+ * above it (0.25 = 25% slower) is printed and written to
+ * regressions.txt next to the history file. history.enabled=false turns
+ * this off.
+ */
+public class RunHistoryListener implements TestExecutionListener {
+    private final Map<String, SpiraMap.Status> outcomes = new ConcurrentHashMap<>();
+    private final long startedAt = System.currentTimeMillis();
+
+    @Override
+    public void executionSkipped(TestIdentifier id, String reason) {
+        String name = TimingReport.testName(id);
+        if (name != null) outcomes.put(name, SpiraMap.Status.NOT_RUN);
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier id, TestExecutionResult result) {
+        String name = TimingReport.testName(id);
+        if (name != null) outcomes.put(name, SpiraListener.statusOf(result));
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan plan) {
+        if (outcomes.isEmpty() || !TestConfig.getBoolean("history.enabled", true)) return;
+
+        List<RunHistory.Entry> entries = new ArrayList<>();
+        Map<String, Map<String, Histogram>> timings = Timings.snapshot();
+        outcomes.forEach((test, status) -> {
+            Map<String, Histogram> steps = timings.getOrDefault(test, Map.of());
+            steps.forEach((step, h) -> entries.add(new RunHistory.Entry(test, step, status, Timings.totalMicros(h))));
+            if (!steps.containsKey(RunHistory.TEST_STEP)) {
+                entries.add(new RunHistory.Entry(test, RunHistory.TEST_STEP, status, 0));
+            }
+        });
+        RunHistory.Run run = new RunHistory.Run(startedAt, entries);
+
+        RunHistory history = RunHistory.fromConfig();
+        try {
+            List<String> regressions = RunHistory.regressions(history.read(), run,
+                    TestConfig.getInt("history.window", 200),
+                    TestConfig.getDouble("history.regression.threshold", 0.25),
+                    TestConfig.getInt("history.min.runs", 5));
+            history.append(run);
+
+            Path report = history.file().resolveSibling("regressions.txt");
+            if (regressions.isEmpty()) {
+                Files.deleteIfExists(report);
+            } else {
+                regressions.forEach(r -> System.out.println("REGRESSION: " + r));
+                Files.write(report, regressions);
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("RunHistoryListener: could not update " + history.file() + ": " + e.getMessage());
+        }
+    }
+}
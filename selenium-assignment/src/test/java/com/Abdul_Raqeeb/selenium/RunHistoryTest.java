@@ -0,0 +1,135 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Append, read back and query {@link RunHistory} on a temp file. */
+public class RunHistoryTest {
+    private static final String CART = "CartTest.testAddAndRemoveCart";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Queries the p95 over the last N passed runs")
+    void percentileOverLastRuns() throws IOException {
+        RunHistory history = new RunHistory(dir.resolve("history.bin"));
+        for (int i = 1; i <= 100; i++) {
+            history.append(run(i, CART, SpiraMap.Status.PASSED, i * 1000L));
+        }
+        // failed runs are not part of the baseline
+        history.append(run(101, CART, SpiraMap.Status.FAILED, 999_000L));
+
+        assertEquals(101, history.read().size());
+        assertEquals(95_000, history.percentile(CART, RunHistory.TEST_STEP, 95, 200));
+        // last 20 passed runs are 81..100 ms
+        assertEquals(99_000, history.percentile(CART, RunHistory.TEST_STEP, 95, 20));
+        assertEquals(-1, history.percentile("Nope.test", RunHistory.TEST_STEP, 95, 200));
+    }
+
+    @Test
+    @DisplayName("Flags a passed test slower than threshold x its p95")
+    void flagsRegressions() throws IOException {
+        RunHistory history = new RunHistory(dir.resolve("history.bin"));
+        for (int i = 0; i < 10; i++) {
+            history.append(run(i, CART, SpiraMap.Status.PASSED, 10_000_000L));
+        }
+        List<RunHistory.Run> past = history.read();
+
+        assertTrue(RunHistory.regressions(past, run(10, CART, SpiraMap.Status.PASSED, 12_000_000L), 200, 0.25, 5).isEmpty());
+        List<String> flagged = RunHistory.regressions(past, run(10, CART, SpiraMap.Status.PASSED, 14_000_000L), 200, 0.25, 5);
+        assertEquals(1, flagged.size());
+        assertTrue(flagged.get(0).startsWith(CART), flagged.get(0));
+        // too little history to judge
+        assertTrue(RunHistory.regressions(past.subList(0, 3), run(10, CART, SpiraMap.Status.PASSED, 14_000_000L), 200, 0.25, 5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Ignores a torn block at the end of the file")
+    void ignoresTornTail() throws IOException {
+        Path file = dir.resolve("history.bin");
+        RunHistory history = new RunHistory(file);
+        history.append(run(1, CART, SpiraMap.Status.PASSED, 5_000L));
+        history.append(run(2, CART, SpiraMap.Status.PASSED, 6_000L));
+        long size = Files.size(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 3);
+        }
+
+        List<RunHistory.Run> runs = history.read();
+        assertEquals(1, runs.size());
+        assertEquals(5_000L, runs.get(0).entries().get(0).micros());
+
+        // the next append trims the torn block and stays readable
+        history.append(run(3, CART, SpiraMap.Status.PASSED, 7_000L));
+        runs = history.read();
+        assertEquals(2, runs.size());
+        assertEquals(3, runs.get(1).startedAt());
+    }
+
+    @Test
+    @DisplayName("Treats a block length past the end of the file as corruption")
+    void rejectsCorruptLength() throws IOException {
+        Path file = dir.resolve("history.bin");
+        RunHistory history = new RunHistory(file);
+        history.append(run(1, CART, SpiraMap.Status.PASSED, 5_000L));
+        long size = Files.size(file);
+        history.append(run(2, CART, SpiraMap.Status.PASSED, 6_000L));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, Integer.MAX_VALUE), size + 4);
+        }
+
+        assertEquals(1, history.read().size());
+        history.append(run(3, CART, SpiraMap.Status.PASSED, 7_000L));
+        assertEquals(2, history.read().size());
+    }
+
+    @Test
+    @DisplayName("A status code this version doesn't know reads as no status")
+    void unknownStatusCode() throws IOException {
+        Path file = dir.resolve("history.bin");
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(payload)) {
+            out.writeLong(1);
+            out.writeInt(1);
+            out.writeUTF(CART);
+            out.writeUTF(RunHistory.TEST_STEP);
+            out.writeByte(42);
+            out.writeLong(5_000L);
+        }
+        byte[] bytes = payload.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        ByteBuffer block = ByteBuffer.allocate(16 + bytes.length);
+        block.putInt(0x52484C31).putInt(bytes.length).put(bytes).putLong(crc.getValue());
+        Files.write(file, block.array());
+
+        RunHistory history = new RunHistory(file);
+        history.append(run(2, CART, SpiraMap.Status.PASSED, 6_000L));
+        List<RunHistory.Run> runs = history.read();
+        assertEquals(2, runs.size());
+        assertNull(runs.get(0).entries().get(0).status());
+        assertEquals(5_000L, runs.get(0).entries().get(0).micros());
+        assertEquals(SpiraMap.Status.PASSED, runs.get(1).entries().get(0).status());
+    }
+
+    private static RunHistory.Run run(long startedAt, String test, SpiraMap.Status status, long micros) {
+        return new RunHistory.Run(startedAt, List.of(
+                new RunHistory.Entry(test, RunHistory.TEST_STEP, status, micros),
+                new RunHistory.Entry(test, "driver.get", status, micros / 2)));
+    }
+}
@@ -0,0 +1,48 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Screenshots the test's browser right after the test method, while the
+ * page is still as the test left it, according to screenshot.mode:
+ * failure (default) only when the test failed, sampled also a
+ * screenshot.sample.rate share of passing tests, always every test, off never.
+ * Files are named &lt;Class&gt;.&lt;method&gt;-failed|passed and written by
+ * {@link ScreenshotService} in the background.
+ */
+public class ScreenshotExtension implements AfterTestExecutionCallback {
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        String mode = TestConfig.get("screenshot.mode", "failure");
+        boolean failed = context.getExecutionException().isPresent();
+        boolean capture;
+        switch (mode) {
+            case "off":
+                capture = false;
+                break;
+            case "always":
+                capture = true;
+                break;
+            case "sampled":
+                double rate = TestConfig.getDouble("screenshot.sample.rate", 0.1);
+                if (rate < 0 || rate > 1) {
+                    throw new IllegalArgumentException("screenshot.sample.rate must be between 0 and 1, got " + rate);
+                }
+                capture = failed || ThreadLocalRandom.current().nextDouble() < rate;
+                break;
+            default:
+                capture = failed;
+        }
+        WebDriver driver = DriverPool.current();
+        if (!capture || driver == null) return;
+
+        String name = context.getRequiredTestClass().getSimpleName() + "."
+                + context.getRequiredTestMethod().getName() + (failed ? "-failed" : "-passed");
+        ScreenshotService.shared().capture(driver, name);
+    }
+}
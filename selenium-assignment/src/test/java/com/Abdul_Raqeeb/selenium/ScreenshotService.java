@@ -0,0 +1,172 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Takes screenshots without making the test wait for the disk.
+ *
+ * Only the capture itself (raw PNG bytes from the browser) happens on the
+ * calling thread; re-encoding and writing run on a small bounded pool
+ * (screenshot.threads, screenshot.queue; when full the caller does the
+ * work itself rather than losing a frame). A frame identical to one
+ * already saved is not written again; &lt;name&gt;.txt names the file that
+ * has it, so every capture leaves something behind. Files go to screenshot.dir as JPEG
+ * at screenshot.quality (0-1) or as the original PNG (screenshot.format=png).
+ * The JDK has no WebP encoder, so JPEG is the compact option.
+ *
+ * Pending writes are finished at JVM exit. Drivers that cannot take
+ * screenshots are skipped.
+ */
+public class ScreenshotService {
+    private static ScreenshotService shared;
+
+    private final Path dir;
+    private final String format;
+    private final float quality;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, Path> saved = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public ScreenshotService(Path dir, String format, float quality, int threads, int queue) {
+        this.dir = dir;
+        this.format = format.toLowerCase(Locale.ROOT).equals("png") ? "png" : "jpg";
+        this.quality = Math.max(0f, Math.min(1f, quality));
+        this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queue), r -> {
+                    Thread t = new Thread(r, "screenshot-writer");
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public static synchronized ScreenshotService shared() {
+        if (shared == null) {
+            shared = new ScreenshotService(Paths.get(TestConfig.get("screenshot.dir", "target/screenshots")),
+                    TestConfig.get("screenshot.format", "jpg"),
+                    (float) TestConfig.getDouble("screenshot.quality", 0.7),
+                    TestConfig.getInt("screenshot.threads", 2),
+                    TestConfig.getInt("screenshot.queue", 16));
+            ScreenshotService service = shared;
+            Runtime.getRuntime().addShutdownHook(new Thread(
+                    () -> service.awaitIdle(Duration.ofSeconds(10)), "screenshot-flush"));
+        }
+        return shared;
+    }
+
+    /** Capture now, save in the background as &lt;name&gt;.jpg|png; false if the driver can't take screenshots. */
+    public boolean capture(WebDriver driver, String name) {
+        if (!(driver instanceof TakesScreenshot)) return false;
+        byte[] png;
+        try {
+            png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        } catch (WebDriverException e) {
+            System.err.println("ScreenshotService: capture failed for " + name + ": " + e.getMessage());
+            return false;
+        }
+        pending.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                save(png, name);
+            } finally {
+                pending.decrementAndGet();
+            }
+        });
+        return true;
+    }
+
+    /** Wait for queued writes; true if all finished in time. */
+    public boolean awaitIdle(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (pending.get() > 0) {
+            if (System.nanoTime() > deadline) return false;
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void save(byte[] png, String name) {
+        String hash = sha256(png);
+        Path file = dir.resolve(name.replaceAll("[^A-Za-z0-9_.-]", "_") + "." + format);
+        Path earlier = saved.putIfAbsent(hash, file);
+        try {
+            Files.createDirectories(dir);
+            if (earlier != null) {
+                Files.writeString(file.resolveSibling(stem(file) + ".txt"), "same frame as " + earlier.getFileName() + "\n");
+                return;
+            }
+            byte[] out = format.equals("png") ? png : toJpeg(png);
+            Files.write(file, out);
+        } catch (IOException | RuntimeException e) {
+            if (earlier == null) saved.remove(hash, file);
+            System.err.println("ScreenshotService: could not save " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static String stem(Path file) {
+        String name = file.getFileName().toString();
+        return name.substring(0, name.lastIndexOf('.'));
+    }
+
+    private byte[] toJpeg(byte[] png) throws IOException {
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+        if (source == null) throw new IOException("not an image");
+        // JPEG has no alpha channel
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        rgb.createGraphics().drawImage(source, 0, 0, Color.WHITE, null);
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return Base64.getUrlEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.WebDriver;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** {@link ScreenshotService} encoding and de-duplication, with a fake driver. */
+public class ScreenshotServiceTest {
+
+    @TempDir
+    Path dir;
+
+    private static byte[] png(Color color) throws IOException {
+        BufferedImage image = new BufferedImage(64, 48, BufferedImage.TYPE_INT_ARGB);
+        var g = image.createGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, 64, 48);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("Screenshots are written as JPEG into a created directory")
+    void writesJpeg() throws IOException {
+        Path out = dir.resolve("shots");
+        ScreenshotService service = new ScreenshotService(out, "jpg", 0.5f, 1, 4);
+        assertTrue(service.capture(new FakeDriver.WithScreenshots(png(Color.RED)), "CartTest.testAdd-failed"));
+        assertTrue(service.awaitIdle(Duration.ofSeconds(10)));
+
+        Path file = out.resolve("CartTest.testAdd-failed.jpg");
+        assertTrue(Files.exists(file));
+        BufferedImage read = ImageIO.read(file.toFile());
+        assertEquals(64, read.getWidth());
+    }
+
+    @Test
+    @DisplayName("Identical frames are saved once, later ones point to it")
+    void dedupes() throws IOException {
+        ScreenshotService service = new ScreenshotService(dir, "png", 0.7f, 2, 4);
+        byte[] same = png(Color.BLUE);
+        WebDriver driver = new FakeDriver.WithScreenshots(same, same, png(Color.GREEN));
+        service.capture(driver, "a");
+        assertTrue(service.awaitIdle(Duration.ofSeconds(10)));
+        service.capture(driver, "b");
+        service.capture(driver, "c");
+        assertTrue(service.awaitIdle(Duration.ofSeconds(10)));
+
+        assertTrue(Files.exists(dir.resolve("a.png")));
+        assertFalse(Files.exists(dir.resolve("b.png")));
+        assertEquals("same frame as a.png", Files.readString(dir.resolve("b.txt")).trim());
+        assertTrue(Files.exists(dir.resolve("c.png")));
+    }
+
+    @Test
+    @DisplayName("Drivers without screenshot support are skipped")
+    void skipsOtherDrivers() {
+        ScreenshotService service = new ScreenshotService(dir, "jpg", 0.7f, 1, 4);
+        assertFalse(service.capture(new FakeDriver(), "x"));
+    }
+}
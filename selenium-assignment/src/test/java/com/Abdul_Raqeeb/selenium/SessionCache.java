@@ -0,0 +1,257 @@
+package com.Abdul_Raqeeb.selenium;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Logged-in browser state (cookies, localStorage and sessionStorage) saved
+ * per user, so a test that only needs to be logged in restores it in one
+ * step instead of logging in again ({@link BaseTest#logIn}).
+ *
+ * Snapshots are files, session.cache.dir/&lt;api host&gt;/&lt;user&gt;.json,
+ * replaced atomically, so parallel forks and later runs share them. A
+ * snapshot older than session.cache.ttl.minutes is dropped, and one that
+ * fails the probe (by default: the site no longer accepts its login token)
+ * is deleted instead of restored. The probe costs a round trip, so each
+ * snapshot is probed at most once per JVM, and not at all if this JVM
+ * saved it; a session that dies within the TTL anyway (e.g. a logout, which
+ * must {@link #invalidate} it) shows as a missing login in the test.
+ * session.cache.enabled=false turns the cache off. Cookies are saved without their domain and come back as
+ * cookies of the page the browser is on. Against the local stand-in
+ * sessions only live as long as the JVM, so the cache is kept in a temp
+ * dir that is not reused.
+ */
+public class SessionCache {
+    /** Browser state of one logged-in user. */
+    public record Snapshot(String user, long savedAt, List<Cookie> cookies,
+                           Map<String, String> localStorage, Map<String, String> sessionStorage) {
+        /** Value of the named cookie, or null. */
+        public String cookie(String name) {
+            for (Cookie c : cookies) {
+                if (c.getName().equals(name)) return c.getValue();
+            }
+            return null;
+        }
+    }
+
+    // resolves with {local: {...}, session: {...}}
+    private static final String READ_STORAGE =
+            "function dump(s) { var r = {}; for (var i = 0; i < s.length; i++) { var k = s.key(i); r[k] = s.getItem(k); } return r; }\n" +
+            "return {local: dump(window.localStorage), session: dump(window.sessionStorage)};";
+    // args: [local, session]
+    private static final String WRITE_STORAGE =
+            "var local = arguments[0], session = arguments[1];\n" +
+            "for (var k in local) window.localStorage.setItem(k, local[k]);\n" +
+            "for (var k in session) window.sessionStorage.setItem(k, session[k]);";
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static SessionCache shared;
+
+    private final Path dir;
+    private final Duration ttl;
+    private final Predicate<Snapshot> probe;
+    private final Map<String, Long> verified = new ConcurrentHashMap<>(); // user -> savedAt of the snapshot known good
+
+    public SessionCache(Path dir, Duration ttl, Predicate<Snapshot> probe) {
+        this.dir = dir;
+        this.ttl = ttl;
+        this.probe = probe;
+    }
+
+    /** The cache for the configured site; null when session.cache.enabled=false. */
+    public static synchronized SessionCache shared() {
+        if (!TestConfig.getBoolean("session.cache.enabled", true)) return null;
+        if (shared == null) {
+            Path dir;
+            try {
+                if (TestConfig.get("base.url", "").equalsIgnoreCase("local")) {
+                    dir = Files.createTempDirectory("session-cache");
+                    Path tmp = dir;
+                    Runtime.getRuntime().addShutdownHook(new Thread(
+                            () -> deleteRecursively(tmp), "session-cache-cleanup"));
+                } else {
+                    String host = URI.create(TestConfig.apiUrl()).getHost();
+                    dir = Paths.get(TestConfig.get("session.cache.dir",
+                            Paths.get(TestConfig.get("run.output.dir", "run-results"), "session-cache").toString()), host);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            DemoblazeApi api = DemoblazeApi.fromConfig();
+            shared = new SessionCache(dir, Duration.ofMinutes(TestConfig.getInt("session.cache.ttl.minutes", 30)),
+                    snapshot -> {
+                        String token = snapshot.cookie(DemoblazeApi.TOKEN_COOKIE);
+                        return token != null && snapshot.user().equals(api.check(token));
+                    });
+        }
+        return shared;
+    }
+
+    /**
+     * Give the browser the saved session of user. The browser must be on a
+     * page of the site. False, and nothing changed, if there is no fresh
+     * snapshot or it fails the probe.
+     */
+    public boolean restore(WebDriver driver, String user) {
+        long start = System.nanoTime();
+        Snapshot snapshot = load(user);
+        if (snapshot == null) return false;
+        if (!Long.valueOf(snapshot.savedAt()).equals(verified.get(user))) {
+            boolean valid;
+            try {
+                valid = probe.test(snapshot);
+            } catch (RuntimeException e) {
+                System.err.println("SessionCache: could not verify session of " + user + ": " + e.getMessage());
+                valid = false;
+            }
+            if (!valid) {
+                invalidate(user);
+                return false;
+            }
+            verified.put(user, snapshot.savedAt());
+        }
+        long now = System.currentTimeMillis();
+        for (Cookie c : snapshot.cookies()) {
+            if (c.getExpiry() == null || c.getExpiry().getTime() > now) driver.manage().addCookie(c);
+        }
+        if (!snapshot.localStorage().isEmpty() || !snapshot.sessionStorage().isEmpty()) {
+            ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE, snapshot.localStorage(), snapshot.sessionStorage());
+        }
+        Timings.record("session.restore", System.nanoTime() - start);
+        return true;
+    }
+
+    /** Save the browser's current session as user's; call it right after a successful login. */
+    public Snapshot save(WebDriver driver, String user) {
+        Map<String, String> local = new LinkedHashMap<>();
+        Map<String, String> session = new LinkedHashMap<>();
+        Object storage = ((JavascriptExecutor) driver).executeScript(READ_STORAGE);
+        if (storage instanceof Map) {
+            copyStrings(((Map<?, ?>) storage).get("local"), local);
+            copyStrings(((Map<?, ?>) storage).get("session"), session);
+        }
+        Snapshot snapshot = new Snapshot(user, System.currentTimeMillis(),
+                new ArrayList<>(driver.manage().getCookies()), local, session);
+        try {
+            write(snapshot);
+            verified.put(user, snapshot.savedAt());
+        } catch (IOException e) {
+            System.err.println("SessionCache: could not save session of " + user + ": " + e.getMessage());
+        }
+        return snapshot;
+    }
+
+    /** Forget user's session, e.g. after logging it out on the server. */
+    public void invalidate(String user) {
+        verified.remove(user);
+        try {
+            Files.deleteIfExists(file(user));
+        } catch (IOException e) {
+            System.err.println("SessionCache: could not delete session of " + user + ": " + e.getMessage());
+        }
+    }
+
+    /** The saved snapshot of user if it is younger than the TTL, else null. */
+    Snapshot load(String user) {
+        Path file = file(user);
+        if (!Files.exists(file)) return null;
+        try {
+            JsonNode json = mapper.readTree(file.toFile());
+            long savedAt = json.path("savedAt").asLong();
+            if (System.currentTimeMillis() - savedAt >= ttl.toMillis()) {
+                invalidate(user);
+                return null;
+            }
+            List<Cookie> cookies = new ArrayList<>();
+            for (JsonNode c : json.path("cookies")) {
+                Cookie.Builder cookie = new Cookie.Builder(c.path("name").asText(), c.path("value").asText())
+                        .path(c.path("path").asText("/"))
+                        .isSecure(c.path("secure").asBoolean())
+                        .isHttpOnly(c.path("httpOnly").asBoolean());
+                if (c.hasNonNull("expiry")) cookie.expiresOn(new Date(c.get("expiry").asLong()));
+                if (c.hasNonNull("sameSite")) cookie.sameSite(c.get("sameSite").asText());
+                cookies.add(cookie.build());
+            }
+            return new Snapshot(json.path("user").asText(), savedAt, cookies,
+                    strings(json.path("localStorage")), strings(json.path("sessionStorage")));
+        } catch (IOException e) {
+            System.err.println("SessionCache: ignoring unreadable " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void write(Snapshot snapshot) throws IOException {
+        ObjectNode json = mapper.createObjectNode();
+        json.put("user", snapshot.user());
+        json.put("savedAt", snapshot.savedAt());
+        for (Cookie c : snapshot.cookies()) {
+            ObjectNode cookie = json.withArray("cookies").addObject();
+            cookie.put("name", c.getName());
+            cookie.put("value", c.getValue());
+            cookie.put("path", c.getPath());
+            cookie.put("secure", c.isSecure());
+            cookie.put("httpOnly", c.isHttpOnly());
+            if (c.getExpiry() != null) cookie.put("expiry", c.getExpiry().getTime());
+            if (c.getSameSite() != null) cookie.put("sameSite", c.getSameSite());
+        }
+        snapshot.localStorage().forEach(json.with("localStorage")::put);
+        snapshot.sessionStorage().forEach(json.with("sessionStorage")::put);
+
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, "session", ".tmp");
+        try {
+            mapper.writerWithDefaultPrettyPrinter().writeValue(tmp.toFile(), json);
+            Files.move(tmp, file(snapshot.user()), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private Path file(String user) {
+        return dir.resolve(user.replaceAll("[^A-Za-z0-9._-]", "_") + ".json");
+    }
+
+    private static void copyStrings(Object from, Map<String, String> to) {
+        if (from instanceof Map) ((Map<?, ?>) from).forEach((k, v) -> to.put(String.valueOf(k), String.valueOf(v)));
+    }
+
+    private static Map<String, String> strings(JsonNode node) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> e = it.next();
+            values.put(e.getKey(), e.getValue().asText());
+        }
+        return values;
+    }
+
+    private static void deleteRecursively(Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        } catch (IOException e) {
+            System.err.println("SessionCache: could not delete " + dir + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** {@link SessionCache} saving and restoring a login on HtmlUnit against a private {@link DemoblazeServer}. */
+public class SessionCacheTest {
+    @TempDir
+    Path dir;
+
+    private DemoblazeServer server;
+    private DemoblazeApi api;
+    private WebDriver driver;
+
+    @BeforeEach
+    void start() throws IOException {
+        server = new DemoblazeServer(0);
+        api = new DemoblazeApi(server.url());
+        driver = BrowserOptions.newHtmlUnitDriver();
+    }
+
+    @AfterEach
+    void stop() {
+        BrowserOptions.quit(driver);
+        server.stop();
+    }
+
+    private SessionCache cache(Duration ttl) {
+        return new SessionCache(dir, ttl, s -> s.user().equals(api.check(s.cookie(DemoblazeApi.TOKEN_COOKIE))));
+    }
+
+    /** Log user in through the API with a marker in localStorage, then save the session. */
+    private void saveLogin(SessionCache cache, String user) {
+        driver.get(server.url() + "/index.html");
+        driver.manage().addCookie(new Cookie(DemoblazeApi.TOKEN_COOKIE, api.logIn(user, "Pass123!"), "/"));
+        ((JavascriptExecutor) driver).executeScript("localStorage.setItem('marker', 'kept')");
+        cache.save(driver, user);
+        driver.manage().deleteAllCookies();
+        ((JavascriptExecutor) driver).executeScript("localStorage.clear()");
+    }
+
+    @Test
+    @DisplayName("A saved login is restored into a cleared browser")
+    void restore() {
+        String user = api.createUser()[0];
+        SessionCache cache = cache(Duration.ofMinutes(5));
+        saveLogin(cache, user);
+
+        assertTrue(cache.restore(driver, user));
+        assertNotNull(driver.manage().getCookieNamed(DemoblazeApi.TOKEN_COOKIE));
+        assertEquals("kept", ((JavascriptExecutor) driver).executeScript("return localStorage.getItem('marker')"));
+        HomePage home = new HomePage(driver, new FastWait(driver, Duration.ofSeconds(5)));
+        driver.get(server.url() + "/index.html");
+        assertTrue(home.waitForWelcome().contains(user));
+    }
+
+    @Test
+    @DisplayName("A snapshot is probed once, and not at all by the JVM that saved it")
+    void probesOnce() {
+        String user = api.createUser()[0];
+        AtomicInteger probes = new AtomicInteger();
+        saveLogin(cache(Duration.ofMinutes(5)), user);
+
+        SessionCache reader = new SessionCache(dir, Duration.ofMinutes(5), s -> probes.incrementAndGet() > 0);
+        assertTrue(reader.restore(driver, user));
+        assertTrue(reader.restore(driver, user));
+        assertEquals(1, probes.get());
+
+        saveLogin(reader, user);
+        assertTrue(reader.restore(driver, user));
+        assertEquals(1, probes.get(), "saved here, so known good");
+
+        reader.invalidate(user);
+        assertFalse(reader.restore(driver, user));
+    }
+
+    @Test
+    @DisplayName("Expired snapshots and ones failing the probe are dropped")
+    void invalidation() {
+        String user = api.createUser()[0];
+        saveLogin(cache(Duration.ZERO), user);
+        assertFalse(cache(Duration.ZERO).restore(driver, user), "older than the TTL");
+        assertFalse(Files.exists(dir.resolve(user + ".json")));
+
+        saveLogin(cache(Duration.ofMinutes(5)), user);
+        assertFalse(new SessionCache(dir, Duration.ofMinutes(5), s -> false).restore(driver, user), "probe failed");
+        assertFalse(Files.exists(dir.resolve(user + ".json")));
+        assertNull(driver.manage().getCookieNamed(DemoblazeApi.TOKEN_COOKIE), "nothing restored");
+        assertNull(cache(Duration.ofMinutes(5)).load("nobody"));
+    }
+}
@@ -0,0 +1,124 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.platform.commons.annotation.Testable;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Runs only this JVM's share of the test classes when shard.count &gt; 1:
+ * shard.index (0-based) picks the shard from {@link ShardPlanner}'s plan.
+ * Registered in META-INF/services, so e.g. three agents running
+ * mvn test -Dshard.count=3 -Dshard.index=0|1|2 split the suite between them.
+ *
+ * Surefire discovers one class at a time, so the suite is taken from the
+ * test-classes directory instead (surefire's default name patterns), which
+ * gives every shard the same list. A class outside that list (run by name,
+ * e.g. a *Bench) goes to a shard picked by its name's hash.
+ */
+public class ShardFilter implements PostDiscoveryFilter {
+    private static final Pattern SUITE_CLASS = Pattern.compile("Test.*|.*Test|.*Tests|.*TestCase");
+
+    private final int count;
+    private final int index;
+    private Map<String, Integer> plan;
+
+    public ShardFilter() {
+        this(TestConfig.getInt("shard.count", 1), TestConfig.getInt("shard.index", 0));
+    }
+
+    ShardFilter(int count, int index) {
+        // a shard past the end would filter out everything and pass with nothing run
+        if (count > 1 && (index < 0 || index >= count)) {
+            throw new IllegalArgumentException(
+                    "shard.index must be 0.." + (count - 1) + " for shard.count=" + count + ", got: " + index);
+        }
+        this.count = count;
+        this.index = index;
+    }
+
+    @Override
+    public synchronized FilterResult apply(TestDescriptor descriptor) {
+        if (count <= 1) return FilterResult.included("not sharded");
+        TestSource source = descriptor.getSource().orElse(null);
+        String className = className(source);
+        if (className == null) return FilterResult.included("not a test class");
+
+        if (plan == null) {
+            plan = ShardPlanner.sharedPlan(suiteClasses(source), count);
+            System.out.println("ShardFilter: shard " + index + " of " + count + " runs " + classesOf(index));
+        }
+        int shard = plan.containsKey(className) ? plan.get(className) : Math.floorMod(className.hashCode(), count);
+        return FilterResult.includedIf(shard == index,
+                () -> "in shard " + index, () -> "in shard " + shard);
+    }
+
+    private Set<String> classesOf(int shard) {
+        Set<String> mine = new TreeSet<>();
+        plan.forEach((c, s) -> {
+            if (s == shard) mine.add(c);
+        });
+        return mine;
+    }
+
+    /** Simple names of the test classes next to the given one on disk. */
+    private static Set<String> suiteClasses(TestSource source) {
+        Set<String> classes = new TreeSet<>();
+        try {
+            Class<?> any = source instanceof ClassSource ? ((ClassSource) source).getJavaClass()
+                    : ((MethodSource) source).getJavaClass();
+            Path root = Paths.get(any.getProtectionDomain().getCodeSource().getLocation().toURI());
+            if (Files.isDirectory(root)) {
+                try (Stream<Path> files = Files.walk(root)) {
+                    files.map(p -> root.relativize(p).toString())
+                            .filter(n -> n.endsWith(".class") && !n.contains("$"))
+                            .map(n -> n.substring(0, n.length() - ".class".length()).replace(File.separatorChar, '.'))
+                            .filter(n -> SUITE_CLASS.matcher(n.substring(n.lastIndexOf('.') + 1)).matches())
+                            .filter(n -> hasTests(n, any.getClassLoader()))
+                            .forEach(n -> classes.add(n.substring(n.lastIndexOf('.') + 1)));
+                }
+            }
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            System.err.println("ShardFilter: could not list test classes: " + e.getMessage());
+        }
+        return classes;
+    }
+
+    /** True for classes declaring @Test (or other testable) methods; helpers like TestConfig are skipped. */
+    private static boolean hasTests(String className, ClassLoader loader) {
+        try {
+            for (Method m : Class.forName(className, false, loader).getDeclaredMethods()) {
+                if (AnnotationSupport.isAnnotated(m, Testable.class)) return true;
+            }
+        } catch (ClassNotFoundException | LinkageError e) {
+            // not loadable here, so not something this run can execute
+        }
+        return false;
+    }
+
+    /** Simple class name, the same key {@link RunHistory} uses. */
+    private static String className(TestSource source) {
+        String name;
+        if (source instanceof ClassSource) name = ((ClassSource) source).getClassName();
+        else if (source instanceof MethodSource) name = ((MethodSource) source).getClassName();
+        else return null;
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+}
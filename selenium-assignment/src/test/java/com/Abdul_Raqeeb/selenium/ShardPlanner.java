@@ -0,0 +1,130 @@
+package com.Abdul_Raqeeb.selenium;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Splits test classes into shards that should take about the same time,
+ * using each class's duration from {@link RunHistory} (median per test over
+ * the last shard.history.window runs, summed per class). Classes are
+ * handed out longest first, each to the shard with the least work so far
+ * (LPT). Classes without history count as the average known class.
+ *
+ * Every shard must end up with the same plan, so the first shard to plan
+ * writes it to run.output.dir/shard-plan-&lt;count&gt;.properties and the
+ * others reuse it while it matches the same classes and is younger than
+ * shard.plan.ttl.minutes. Shards on separate machines should share (or
+ * copy) the history file, see history.file.
+ */
+public class ShardPlanner {
+    private static final long DEFAULT_CLASS_MICROS = 10_000_000;
+
+    /** Class (simple name) -> expected duration in microseconds. */
+    public static Map<String, Long> classDurations(List<RunHistory.Run> runs, int window) {
+        Map<String, List<Long>> byTest = new HashMap<>();
+        for (int i = runs.size() - 1; i >= 0; i--) {
+            for (RunHistory.Entry e : runs.get(i).entries()) {
+                if (!RunHistory.TEST_STEP.equals(e.step()) || e.micros() <= 0) continue;
+                List<Long> values = byTest.computeIfAbsent(e.test(), t -> new ArrayList<>());
+                if (values.size() < window) values.add(e.micros());
+            }
+        }
+        Map<String, Long> byClass = new TreeMap<>();
+        byTest.forEach((test, values) -> {
+            Collections.sort(values);
+            String className = test.contains(".") ? test.substring(0, test.indexOf('.')) : test;
+            byClass.merge(className, values.get(values.size() / 2), Long::sum);
+        });
+        return byClass;
+    }
+
+    /** Class -> shard index (0-based), longest-processing-time first. */
+    public static Map<String, Integer> plan(Collection<String> classes, Map<String, Long> durations, int shards) {
+        long known = 0;
+        int knownCount = 0;
+        for (String c : classes) {
+            Long d = durations.get(c);
+            if (d != null) {
+                known += d;
+                knownCount++;
+            }
+        }
+        long fallback = knownCount == 0 ? DEFAULT_CLASS_MICROS : known / knownCount;
+
+        List<String> ordered = new ArrayList<>(new TreeSet<>(classes));
+        ordered.sort((a, b) -> Long.compare(durations.getOrDefault(b, fallback), durations.getOrDefault(a, fallback)));
+        long[] load = new long[shards];
+        Map<String, Integer> plan = new TreeMap<>();
+        for (String c : ordered) {
+            int target = 0;
+            for (int s = 1; s < shards; s++) {
+                if (load[s] < load[target]) target = s;
+            }
+            load[target] += durations.getOrDefault(c, fallback);
+            plan.put(c, target);
+        }
+        return plan;
+    }
+
+    /** The plan for this run's classes, shared through the plan file (see class comment). */
+    public static Map<String, Integer> sharedPlan(Collection<String> classes, int shards) {
+        String signature = String.join(",", new TreeSet<>(classes));
+        Path file = Paths.get(TestConfig.get("run.output.dir", "run-results"), "shard-plan-" + shards + ".properties");
+        Duration ttl = Duration.ofMinutes(TestConfig.getInt("shard.plan.ttl.minutes", 30));
+        try {
+            if (Files.exists(file)
+                    && Files.getLastModifiedTime(file).toMillis() > System.currentTimeMillis() - ttl.toMillis()) {
+                Properties saved = new Properties();
+                try (InputStream in = Files.newInputStream(file)) {
+                    saved.load(in);
+                }
+                if (signature.equals(saved.getProperty("classes"))) {
+                    Map<String, Integer> plan = new TreeMap<>();
+                    for (String c : classes) plan.put(c, Integer.parseInt(saved.getProperty("shard." + c)));
+                    return plan;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("ShardPlanner: ignoring unreadable plan " + file + ": " + e.getMessage());
+        }
+
+        Map<String, Long> durations;
+        try {
+            durations = classDurations(RunHistory.fromConfig().read(), TestConfig.getInt("shard.history.window", 20));
+        } catch (IOException e) {
+            System.err.println("ShardPlanner: no usable history, splitting evenly: " + e.getMessage());
+            durations = Map.of();
+        }
+        Map<String, Integer> plan = plan(classes, durations, shards);
+
+        Properties out = new Properties();
+        out.setProperty("classes", signature);
+        plan.forEach((c, s) -> out.setProperty("shard." + c, String.valueOf(s)));
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), "shard-plan", ".tmp");
+            try (OutputStream os = Files.newOutputStream(tmp)) {
+                out.store(os, "test class -> shard, written by ShardPlanner");
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("ShardPlanner: could not save plan: " + e.getMessage());
+        }
+        return plan;
+    }
+}
@@ -0,0 +1,55 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** {@link ShardPlanner}: durations from history and the LPT split. */
+public class ShardPlannerTest {
+
+    @Test
+    @DisplayName("Class duration is the sum of its tests' median durations")
+    void classDurationsFromHistory() {
+        List<RunHistory.Run> runs = new ArrayList<>();
+        long[] cart = {9, 10, 50}; // one slow outlier
+        for (int i = 0; i < cart.length; i++) {
+            runs.add(new RunHistory.Run(i, List.of(
+                    new RunHistory.Entry("CartTest.testAddAndRemoveCart", RunHistory.TEST_STEP, SpiraMap.Status.PASSED, cart[i]),
+                    new RunHistory.Entry("LoginTest.testValidLogin", RunHistory.TEST_STEP, SpiraMap.Status.PASSED, 4),
+                    new RunHistory.Entry("LoginTest.testInvalidLogin", RunHistory.TEST_STEP, SpiraMap.Status.FAILED, 3),
+                    new RunHistory.Entry("LoginTest.testValidLogin", "driver.get", SpiraMap.Status.PASSED, 1))));
+        }
+        Map<String, Long> durations = ShardPlanner.classDurations(runs, 20);
+        assertEquals(10L, durations.get("CartTest"));
+        assertEquals(7L, durations.get("LoginTest"));
+    }
+
+    @Test
+    @DisplayName("Longest classes first, each onto the least loaded shard")
+    void balancesShards() {
+        Map<String, Long> durations = Map.of("A", 8L, "B", 7L, "C", 6L, "D", 5L, "E", 4L);
+        Map<String, Integer> plan = ShardPlanner.plan(Set.of("A", "B", "C", "D", "E", "F"), durations, 2);
+
+        long[] load = new long[2];
+        plan.forEach((c, s) -> load[s] += durations.getOrDefault(c, 6L)); // F: average of known
+        assertEquals(6, plan.size());
+        assertTrue(Math.abs(load[0] - load[1]) <= 2, "unbalanced: " + load[0] + " vs " + load[1]);
+        // same input, same plan
+        assertEquals(plan, ShardPlanner.plan(Set.of("F", "E", "D", "C", "B", "A"), durations, 2));
+    }
+
+    @Test
+    @DisplayName("A shard index outside 0..count-1 is rejected")
+    void shardIndexInRange() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardFilter(3, 3));
+        assertThrows(IllegalArgumentException.class, () -> new ShardFilter(3, -1));
+        new ShardFilter(3, 2);
+        new ShardFilter(1, 0);
+    }
+}
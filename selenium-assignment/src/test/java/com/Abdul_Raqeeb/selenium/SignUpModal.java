@@ -0,0 +1,32 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/** The "Sign up" dialog opened from the navbar. */
+public class SignUpModal extends BasePage {
+    static final By USERNAME = By.id("sign-username");
+    static final By PASSWORD = By.id("sign-password");
+    static final By SUBMIT = By.cssSelector("#signInModal .btn-primary");
+
+    private final LazyElement username = element(USERNAME);
+    private final LazyElement password = element(PASSWORD);
+    private final LazyElement submit = element(SUBMIT);
+
+    public SignUpModal(WebDriver driver, WebDriverWait wait) {
+        super(driver, wait);
+    }
+
+    public SignUpModal waitOpen() {
+        username.waitVisible(wait);
+        return this;
+    }
+
+    /** Fill in the form and press "Sign up"; the site answers with an alert. */
+    public void signUp(String user, String pass) {
+        username.sendKeys(user);
+        password.sendKeys(pass);
+        submit.click();
+    }
+}
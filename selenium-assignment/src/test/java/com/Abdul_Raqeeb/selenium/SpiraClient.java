@@ -0,0 +1,164 @@
+package com.Abdul_Raqeeb.selenium;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * The one HTTP client used for Spira reporting ({@link SpiraMap},
+ * {@link SpiraReporter} and {@link SpiraPublisher} all go through it).
+ *
+ * A single shared {@link HttpClient} keeps connections alive and pooled
+ * (HTTP/2 when the server offers it), so runs after the first skip the
+ * TCP/TLS handshake. Calls are non-blocking (sendAsync) and request bodies
+ * are written by a Jackson generator straight into the request bytes.
+ */
+public class SpiraClient {
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final DateTimeFormatter ISO_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+
+    private final String baseUrl;
+    private final String authorization;
+    private final int projectId;
+
+    public SpiraClient(String baseUrl, String username, String apiKey, int projectId) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        // Basic Auth: username:apiKey
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + apiKey).getBytes(StandardCharsets.UTF_8));
+        this.projectId = projectId;
+    }
+
+    /** Client built from spira.base / spira.user / spira.api.key / spira.project.id, or null if not configured. */
+    public static SpiraClient fromConfig() {
+        String base = TestConfig.get("spira.base", null);
+        String user = TestConfig.get("spira.user", System.getenv("SPIRA_USER"));
+        String key = TestConfig.get("spira.api.key", System.getenv("SPIRA_APIKEY"));
+        if (base == null || user == null || key == null) return null;
+        return new SpiraClient(base, user, key, TestConfig.getInt("spira.project.id", 1));
+    }
+
+    /** POST one run to test-runs/record. Fails with {@link SpiraMap.HttpStatusException} on non-2xx. */
+    public CompletableFuture<String> recordAsync(SpiraMap.TestRun run) {
+        return post("record", g -> writeRun(g, run));
+    }
+
+    /** POST several runs as one array to test-runs/record-multiple. */
+    public CompletableFuture<String> recordAllAsync(List<SpiraMap.TestRun> runs) {
+        return post("record-multiple", g -> {
+            g.writeStartArray();
+            for (SpiraMap.TestRun run : runs) writeRun(g, run);
+            g.writeEndArray();
+        });
+    }
+
+    /** /Services/v6_0/RestService.svc/projects/{projectId}/test-runs/{action} */
+    String endpoint(String action) {
+        return String.format("%s/Services/v6_0/RestService.svc/projects/%d/test-runs/%s", baseUrl, projectId, action);
+    }
+
+    private CompletableFuture<String> post(String action, JsonBody body) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder()
+                    .uri(URI.create(endpoint(action)))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Accept", "application/json")
+                    .header("Content-Type", "application/json")
+                    .header("Authorization", authorization)
+                    .POST(serialize(body))
+                    .build();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return HTTP.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenApply(resp -> {
+            if (resp.statusCode() < 200 || resp.statusCode() >= 300) {
+                throw new CompletionException(
+                        new SpiraMap.HttpStatusException(resp.statusCode(), resp.body()));
+            }
+            return resp.body();
+        });
+    }
+
+    /** Write the Spira JSON object for one run (fields required by the record endpoints). */
+    static void writeRun(JsonGenerator g, SpiraMap.TestRun run) throws IOException {
+        g.writeStartObject();
+        g.writeNumberField("TestRunFormatId", 2); // 2 = automated runner format typical
+        g.writeNumberField("RunnerAssertCount", 0);
+        g.writeStringField("StartDate", run.startDate().format(ISO_FMT));
+        g.writeStringField("EndDate", run.endDate().format(ISO_FMT));
+        g.writeStringField("RunnerName", nullToEmpty(run.runnerName()));
+        g.writeStringField("RunnerTestName", nullToEmpty(run.runnerTestName()));
+        g.writeStringField("RunnerMessage", nullToEmpty(run.runnerMessage()));
+        g.writeStringField("RunnerStackTrace", nullToEmpty(run.runnerStack()));
+        g.writeNumberField("TestCaseId", run.testCaseId());
+        if (run.releaseId() > 0) g.writeNumberField("ReleaseId", run.releaseId());
+        if (run.testSetId() > 0) g.writeNumberField("TestSetId", run.testSetId());
+        g.writeNumberField("ExecutionStatusId", executionStatusId(run.status()));
+        g.writeEndObject();
+    }
+
+    static int executionStatusId(SpiraMap.Status status) {
+        // Spira mapping (from documentation / REST metadata)
+        // Failed = 1; Passed = 2; NotRun = 3; NotApplicable = 4; Blocked = 5; Caution = 6;
+        switch (status) {
+            case FAILED:
+                return 1;
+            case PASSED:
+                return 2;
+            case NOT_APPLICABLE:
+                return 4;
+            case BLOCKED:
+                return 5;
+            case CAUTION:
+                return 6;
+            case NOT_RUN:
+            default:
+                return 3;
+        }
+    }
+
+    private static HttpRequest.BodyPublisher serialize(JsonBody body) throws IOException {
+        Buffer buffer = new Buffer();
+        try (JsonGenerator g = JSON.createGenerator(buffer)) {
+            body.write(g);
+        }
+        return buffer.publisher();
+    }
+
+    private static String nullToEmpty(String s) {
+        return s == null ? "" : s;
+    }
+
+    private interface JsonBody {
+        void write(JsonGenerator g) throws IOException;
+    }
+
+    /** Hands the written bytes to the request without copying them into a String or a new array. */
+    private static final class Buffer extends ByteArrayOutputStream {
+        Buffer() {
+            super(512);
+        }
+
+        HttpRequest.BodyPublisher publisher() {
+            return HttpRequest.BodyPublishers.ofByteArray(buf, 0, count);
+        }
+    }
+}
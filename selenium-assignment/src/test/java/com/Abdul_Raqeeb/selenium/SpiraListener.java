@@ -0,0 +1,100 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports every finished test to Spira through {@link SpiraPublisher}.
+ *
+ * Registered in META-INF/services, so it runs for every launcher (surefire,
+ * IDE). A test is only reported if it is mapped to a Spira test case:
+ * spira.case.LoginTest.testValidLogin=123, or spira.case.LoginTest=123 for
+ * the whole class.
+ */
+public class SpiraListener implements TestExecutionListener {
+    private final Map<String, ZonedDateTime> started = new ConcurrentHashMap<>();
+
+    @Override
+    public void executionStarted(TestIdentifier id) {
+        if (id.isTest()) started.put(id.getUniqueId(), ZonedDateTime.now());
+    }
+
+    @Override
+    public void executionSkipped(TestIdentifier id, String reason) {
+        if (id.isTest()) report(id, SpiraMap.Status.NOT_RUN, "Skipped: " + reason, null);
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier id, TestExecutionResult result) {
+        if (!id.isTest()) return;
+        Throwable t = result.getThrowable().orElse(null);
+        SpiraMap.Status status = statusOf(result);
+        switch (status) {
+            case PASSED:
+                report(id, status, "All assertions passed", null);
+                break;
+            case BLOCKED:
+                report(id, status, t != null ? t.getMessage() : "Aborted", t);
+                break;
+            default:
+                report(id, status, t != null ? t.getMessage() : "Failed", t);
+        }
+    }
+
+    /** Spira status for a JUnit result: successful = passed, aborted (assumption failed) = blocked, else failed. */
+    static SpiraMap.Status statusOf(TestExecutionResult result) {
+        switch (result.getStatus()) {
+            case SUCCESSFUL:
+                return SpiraMap.Status.PASSED;
+            case ABORTED:
+                return SpiraMap.Status.BLOCKED;
+            default:
+                return SpiraMap.Status.FAILED;
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan plan) {
+        SpiraPublisher publisher = SpiraPublisher.getDefault();
+        if (publisher != null) publisher.flush(Duration.ofSeconds(30));
+    }
+
+    private void report(TestIdentifier id, SpiraMap.Status status, String message, Throwable t) {
+        if (!(id.getSource().orElse(null) instanceof MethodSource)) return;
+        MethodSource source = (MethodSource) id.getSource().get();
+        String className = source.getJavaClass().getSimpleName();
+        String testName = className + "." + source.getMethodName();
+
+        int testCaseId = TestConfig.getInt("spira.case." + testName,
+                TestConfig.getInt("spira.case." + className, 0));
+        if (testCaseId <= 0) return;
+        SpiraPublisher publisher = SpiraPublisher.getDefault();
+        if (publisher == null) return;
+
+        ZonedDateTime end = ZonedDateTime.now();
+        ZonedDateTime start = started.getOrDefault(id.getUniqueId(), end);
+        started.remove(id.getUniqueId());
+        publisher.submit(new SpiraMap.TestRun(testCaseId,
+                TestConfig.getInt("spira.test.set.id", 0),
+                TestConfig.getInt("spira.release.id", 0),
+                status, "JUnit-Selenium", testName,
+                message == null ? "" : message, stackTrace(t), start, end));
+    }
+
+    private static String stackTrace(Throwable t) {
+        if (t == null) return "";
+        StringWriter sw = new StringWriter();
+        t.printStackTrace(new PrintWriter(sw));
+        return sw.toString();
+    }
+}
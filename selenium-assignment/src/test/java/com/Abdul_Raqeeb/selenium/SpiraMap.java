@@ -1,14 +1,8 @@
 package com.Abdul_Raqeeb.selenium;
 
-import java.io.*;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Base64;
-import java.util.Map;
-import java.util.HashMap;
+import java.util.concurrent.CompletionException;
 
 /**
  * Simple Spira REST helper that records a test-run in SpiraPlan (v6/v7 REST).
@@ -30,6 +24,7 @@ import java.util.HashMap;
  *   );
  *
  * See Inflectra KB548: POST projects/{project_id}/test-runs/record
+ * The HTTP call itself is made by {@link SpiraClient}.
  */
 public class SpiraMap {
 
@@ -37,7 +32,34 @@ public class SpiraMap {
         FAILED, PASSED, NOT_RUN, NOT_APPLICABLE, BLOCKED, CAUTION
     }
 
-    private static final DateTimeFormatter ISO_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+    /** One automated test-run result, as sent to Spira. */
+    public record TestRun(
+            int testCaseId,
+            int testSetId,
+            int releaseId,
+            Status status,
+            String runnerName,
+            String runnerTestName,
+            String runnerMessage,
+            String runnerStack,
+            ZonedDateTime startDate,
+            ZonedDateTime endDate
+    ) {}
+
+    /** Non-2xx answer from the Spira API; the status code lets callers decide whether to retry. */
+    public static class HttpStatusException extends IOException {
+        private static final long serialVersionUID = 1L;
+        private final int statusCode;
+
+        public HttpStatusException(int statusCode, String response) {
+            super("Spira API returned HTTP " + statusCode + " : " + response);
+            this.statusCode = statusCode;
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+    }
 
     /**
      * Record a test run in Spira.
@@ -72,122 +94,22 @@ public class SpiraMap {
             String runnerStack
     ) throws IOException {
 
-        if (spiraBaseUrl.endsWith("/")) {
-            spiraBaseUrl = spiraBaseUrl.substring(0, spiraBaseUrl.length() - 1);
-        }
-
-        // build endpoint: /Services/v6_0/RestService.svc/projects/{projectId}/test-runs/record
-        String endpoint = String.format("%s/Services/v6_0/RestService.svc/projects/%d/test-runs/record",
-                spiraBaseUrl, projectId);
-
-        // map Status -> ExecutionStatusId (Spira mapping)
-        int executionStatusId = mapStatusToExecutionStatusId(status);
-
         // timestamp: start now, end now (for quick run) - ISO with timezone
-        String now = ZonedDateTime.now().format(ISO_FMT);
+        ZonedDateTime now = ZonedDateTime.now();
+        TestRun run = new TestRun(testCaseId, testSetId, releaseId, status,
+                runnerName, runnerTestName, runnerMessage, runnerStack, now, now);
 
-        // Build JSON payload (simple; include fields required by Spira)
-        StringBuilder json = new StringBuilder();
-        json.append("{");
-        json.append("\"TestRunFormatId\":2,"); // 2 = automated runner format typical
-        json.append("\"RunnerAssertCount\":0,");
-        json.append("\"StartDate\":\"").append(now).append("\",");
-        json.append("\"EndDate\":\"").append(now).append("\",");
-        json.append("\"RunnerName\":\"").append(escapeJson(runnerName)).append("\",");
-        json.append("\"RunnerTestName\":\"").append(escapeJson(runnerTestName)).append("\",");
-        json.append("\"RunnerMessage\":\"").append(escapeJson(runnerMessage)).append("\",");
-        json.append("\"RunnerStackTrace\":\"").append(escapeJson(runnerStack)).append("\",");
-        json.append("\"TestCaseId\":").append(testCaseId).append(",");
-        if (releaseId > 0) {
-            json.append("\"ReleaseId\":").append(releaseId).append(",");
-        }
-        if (testSetId > 0) {
-            json.append("\"TestSetId\":").append(testSetId).append(",");
-        }
-        json.append("\"ExecutionStatusId\":").append(executionStatusId);
-
-        // close json
-        json.append("}");
-
-        // POST to Spira
-        URL url = new URL(endpoint);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+        SpiraClient client = new SpiraClient(spiraBaseUrl, username, apiKey, projectId);
         try {
-            conn.setRequestMethod("POST");
-            conn.setDoOutput(true);
-            conn.setRequestProperty("Accept", "application/json");
-            conn.setRequestProperty("Content-Type", "application/json");
-
-            // Basic Auth: username:apiKey
-            String basic = username + ":" + apiKey;
-            String encoded = Base64.getEncoder().encodeToString(basic.getBytes(StandardCharsets.UTF_8));
-            conn.setRequestProperty("Authorization", "Basic " + encoded);
-
-            // write body
-            byte[] body = json.toString().getBytes(StandardCharsets.UTF_8);
-            conn.setFixedLengthStreamingMode(body.length);
-            try (OutputStream os = conn.getOutputStream()) {
-                os.write(body);
-            }
-
-            // read response
-            int code = conn.getResponseCode();
-            InputStream is = (code >= 200 && code < 300) ? conn.getInputStream() : conn.getErrorStream();
-            String response = readStream(is);
-
-            System.out.println("SpiraMap: POST " + endpoint + " -> HTTP " + code);
-            System.out.println("SpiraMap: Request JSON: " + json.toString());
-            System.out.println("SpiraMap: Response: " + response);
-
-            if (code < 200 || code >= 300) {
-                throw new IOException("Spira API returned HTTP " + code + " : " + response);
-            }
-
+            String response = client.recordAsync(run).join();
+            System.out.println("SpiraMap: POST " + client.endpoint("record") + " -> OK");
             return response;
-        } finally {
-            conn.disconnect();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) throw (IOException) e.getCause();
+            throw new IOException(e.getCause());
         }
     }
 
-    private static String readStream(InputStream is) throws IOException {
-        if (is == null) return "";
-        try (BufferedReader br = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
-            StringBuilder sb = new StringBuilder();
-            String line;
-            while ((line = br.readLine()) != null) {
-                sb.append(line).append("\n");
-            }
-            return sb.toString().trim();
-        }
-    }
-
-    private static int mapStatusToExecutionStatusId(Status status) {
-        // Spira mapping (from documentation / REST metadata)
-        // Failed = 1; Passed = 2; NotRun = 3; NotApplicable = 4; Blocked = 5; Caution = 6;
-        switch (status) {
-            case FAILED:
-                return 1;
-            case PASSED:
-                return 2;
-            case NOT_RUN:
-                return 3;
-            case NOT_APPLICABLE:
-                return 4;
-            case BLOCKED:
-                return 5;
-            case CAUTION:
-                return 6;
-            default:
-                return 3;
-        }
-    }
-
-    // minimal JSON escaping
-    private static String escapeJson(String s) {
-        if (s == null) return "";
-        return s.replace("\\", "\\\\").replace("\"", "\\\"").replace("\r", "\\r").replace("\n", "\\n");
-    }
-
     // Convenience wrapper to be used from tests: indicates PASS/FAIL quickly
     public static String reportSimplePassFail(String spiraBaseUrl,
                                               String username,
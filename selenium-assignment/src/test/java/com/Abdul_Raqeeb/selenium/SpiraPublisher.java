@@ -0,0 +1,190 @@
+package com.Abdul_Raqeeb.selenium;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background publisher for Spira test-run results.
+ *
+ * Test threads only {@link #submit} a run; a daemon worker collects runs
+ * that finish close together and POSTs them as one array to
+ * test-runs/record-multiple. If the server does not support that endpoint
+ * (404/405) the publisher switches to single test-runs/record calls.
+ * Requests go out non-blocking through {@link SpiraClient}, at most
+ * spira.concurrency at a time. Connection errors, 429 and 5xx answers are
+ * retried with exponential backoff. The default instance flushes on JVM
+ * shutdown.
+ *
+ * Settings (config.properties or -D): spira.base, spira.user (or env
+ * SPIRA_USER), spira.api.key (or env SPIRA_APIKEY), spira.project.id,
+ * spira.batch.size, spira.retries, spira.concurrency.
+ */
+public class SpiraPublisher {
+    private static SpiraPublisher defaultInstance;
+    private static boolean defaultResolved;
+
+    private final SpiraClient client;
+    private final int batchSize;
+    private final int maxRetries;
+    private final long backoffMillis;
+    private final long lingerMillis;
+
+    private final BlockingQueue<SpiraMap.TestRun> queue = new LinkedBlockingQueue<>();
+    private final Semaphore inFlight;
+    private final Thread worker;
+    private final Object lock = new Object();
+    private int pending; // queued + in flight, guarded by lock
+    private volatile boolean batchSupported = true;
+    private volatile boolean closed;
+
+    public SpiraPublisher(SpiraClient client, int batchSize, int concurrency,
+                          int maxRetries, long backoffMillis, long lingerMillis) {
+        this.client = client;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.backoffMillis = backoffMillis;
+        this.lingerMillis = lingerMillis;
+        this.inFlight = new Semaphore(Math.max(1, concurrency));
+        this.worker = daemon(this::runWorker, "spira-publisher");
+        this.worker.start();
+    }
+
+    /**
+     * Shared publisher built from config, or null when Spira is not configured
+     * (no base URL or credentials), in which case reporting is simply skipped.
+     */
+    public static synchronized SpiraPublisher getDefault() {
+        if (defaultResolved) return defaultInstance;
+        defaultResolved = true;
+
+        SpiraClient client = SpiraClient.fromConfig();
+        if (client == null) return null;
+
+        defaultInstance = new SpiraPublisher(client,
+                TestConfig.getInt("spira.batch.size", 50),
+                TestConfig.getInt("spira.concurrency", 4),
+                TestConfig.getInt("spira.retries", 3),
+                250, 100);
+        SpiraPublisher instance = defaultInstance;
+        Runtime.getRuntime().addShutdownHook(new Thread(
+                () -> instance.close(Duration.ofSeconds(15)), "spira-publisher-shutdown"));
+        return defaultInstance;
+    }
+
+    /** Queue a run for publishing; returns immediately. */
+    public void submit(SpiraMap.TestRun run) {
+        if (closed) throw new IllegalStateException("SpiraPublisher is closed");
+        synchronized (lock) {
+            pending++;
+        }
+        queue.add(run);
+    }
+
+    /** Wait until every submitted run has been published (or given up on). */
+    public boolean flush(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (lock) {
+            while (pending > 0) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    System.err.println("SpiraPublisher: " + pending + " result(s) not published before timeout");
+                    return false;
+                }
+                try {
+                    lock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /** Flush, then stop the worker thread. */
+    public void close(Duration timeout) {
+        flush(timeout);
+        closed = true;
+        worker.interrupt();
+    }
+
+    private void runWorker() {
+        List<SpiraMap.TestRun> batch = new ArrayList<>();
+        while (!closed) {
+            try {
+                SpiraMap.TestRun first = queue.poll(250, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                // linger briefly so results finishing together share one POST
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                while (batch.size() < batchSize) {
+                    SpiraMap.TestRun next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                if (batchSupported) {
+                    dispatch(new ArrayList<>(batch), true);
+                } else {
+                    for (SpiraMap.TestRun run : batch) dispatch(List.of(run), false);
+                }
+                batch.clear();
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void dispatch(List<SpiraMap.TestRun> runs, boolean multiple) throws InterruptedException {
+        inFlight.acquire();
+        attempt(runs, multiple, 0).whenComplete((v, e) -> inFlight.release());
+    }
+
+    private CompletableFuture<Void> attempt(List<SpiraMap.TestRun> runs, boolean multiple, int attempt) {
+        CompletableFuture<String> call = multiple ? client.recordAllAsync(runs) : client.recordAsync(runs.get(0));
+        return call.handle((resp, err) -> {
+            if (err == null) {
+                done(runs.size());
+                return CompletableFuture.<Void>completedFuture(null);
+            }
+            Throwable cause = err instanceof CompletionException && err.getCause() != null ? err.getCause() : err;
+            int code = cause instanceof SpiraMap.HttpStatusException
+                    ? ((SpiraMap.HttpStatusException) cause).getStatusCode() : -1;
+            if (multiple && (code == 404 || code == 405)) {
+                System.out.println("SpiraPublisher: record-multiple not supported, falling back to single records");
+                batchSupported = false;
+                queue.addAll(runs); // still pending; the worker sends them one by one
+                return CompletableFuture.<Void>completedFuture(null);
+            }
+            boolean retryable = code == -1 || code == 429 || code >= 500;
+            if (retryable && attempt < maxRetries) {
+                long delay = backoffMillis << attempt;
+                return CompletableFuture.runAsync(() -> {},
+                                CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+                        .thenCompose(v -> attempt(runs, multiple, attempt + 1));
+            }
+            System.err.println("SpiraPublisher: dropped " + runs.size() + " result(s): " + cause.getMessage());
+            done(runs.size());
+            return CompletableFuture.<Void>completedFuture(null);
+        }).thenCompose(f -> f);
+    }
+
+    private void done(int count) {
+        synchronized (lock) {
+            pending -= count;
+            lock.notifyAll();
+        }
+    }
+
+    private static Thread daemon(Runnable r, String name) {
+        Thread t = new Thread(r, name);
+        t.setDaemon(true);
+        return t;
+    }
+}
@@ -0,0 +1,135 @@
+package com.Abdul_Raqeeb.selenium;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Runs {@link SpiraPublisher} and {@link SpiraClient} against a local stub of the Spira test-runs endpoints. */
+public class SpiraPublisherTest {
+    private HttpServer server;
+    private ExecutorService stubThreads;
+    private final List<String> batchBodies = new CopyOnWriteArrayList<>();
+    private final List<String> singleBodies = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresToSend = new AtomicInteger();
+    private volatile int batchStatus = 200;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/Services/v6_0/RestService.svc/projects/7/test-runs/", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            int status = 200;
+            if (failuresToSend.getAndDecrement() > 0) {
+                status = 503;
+            } else if (exchange.getRequestURI().getPath().endsWith("/record-multiple")) {
+                status = batchStatus;
+                if (status == 200) batchBodies.add(body);
+            } else {
+                singleBodies.add(body);
+            }
+            byte[] out = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, out.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(out);
+            }
+        });
+        stubThreads = Executors.newFixedThreadPool(8);
+        server.setExecutor(stubThreads);
+        server.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+        stubThreads.shutdownNow(); // stop() leaves the executor running
+    }
+
+    private SpiraPublisher publisher() {
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+        return new SpiraPublisher(new SpiraClient(base, "user", "{KEY}", 7), 50, 4, 3, 10, 200);
+    }
+
+    private static SpiraMap.TestRun run(int id) {
+        ZonedDateTime now = ZonedDateTime.now();
+        return new SpiraMap.TestRun(id, 0, 0, SpiraMap.Status.PASSED, "JUnit-Selenium",
+                "Stub.test" + id, "ok \"quoted\"", "", now, now);
+    }
+
+    private static int records(List<String> bodies) {
+        return bodies.stream().mapToInt(b -> b.split("\"TestCaseId\"", -1).length - 1).sum();
+    }
+
+    @Test
+    @DisplayName("Runs submitted together are sent as one record-multiple POST")
+    void batchesRuns() {
+        SpiraPublisher publisher = publisher();
+        for (int i = 1; i <= 5; i++) publisher.submit(run(i));
+
+        assertTrue(publisher.flush(Duration.ofSeconds(5)));
+        publisher.close(Duration.ofSeconds(1));
+        assertEquals(1, batchBodies.size());
+        assertEquals(5, records(batchBodies));
+        assertTrue(batchBodies.get(0).startsWith("[{"), batchBodies.get(0));
+    }
+
+    @Test
+    @DisplayName("Server errors are retried with backoff")
+    void retriesServerErrors() {
+        failuresToSend.set(2);
+        SpiraPublisher publisher = publisher();
+        publisher.submit(run(1));
+
+        assertTrue(publisher.flush(Duration.ofSeconds(5)));
+        publisher.close(Duration.ofSeconds(1));
+        assertEquals(1, records(batchBodies));
+    }
+
+    @Test
+    @DisplayName("Falls back to single records when record-multiple is missing")
+    void fallsBackToSingleRecords() {
+        batchStatus = 404;
+        SpiraPublisher publisher = publisher();
+        for (int i = 1; i <= 3; i++) publisher.submit(run(i));
+
+        assertTrue(publisher.flush(Duration.ofSeconds(5)));
+        publisher.close(Duration.ofSeconds(1));
+        assertEquals(0, batchBodies.size());
+        assertEquals(3, singleBodies.size());
+    }
+
+    /** Takes several seconds for the one-by-one half, so only with -Dspira.volume=true. */
+    @Test
+    @EnabledIfSystemProperty(named = "spira.volume", matches = "true")
+    @DisplayName("1000 results through the shared client, batched and one by one")
+    void publishesThousandResults() {
+        SpiraPublisher batched = publisher();
+        for (int i = 1; i <= 1000; i++) batched.submit(run(i));
+        assertTrue(batched.flush(Duration.ofSeconds(30)));
+        batched.close(Duration.ofSeconds(1));
+        assertEquals(1000, records(batchBodies));
+
+        batchStatus = 404;
+        SpiraPublisher single = publisher();
+        for (int i = 1; i <= 1000; i++) single.submit(run(i));
+        assertTrue(single.flush(Duration.ofSeconds(60)));
+        single.close(Duration.ofSeconds(1));
+        assertEquals(1000, singleBodies.size());
+    }
+}
@@ -0,0 +1,58 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * WebDriverListener that times every call made through a decorated driver
+ * and records it in {@link Timings} as "&lt;target&gt;.&lt;method&gt;", e.g.
+ * driver.get, driver.findElement, element.click, element.sendKeys,
+ * switchTo.alert, alert.accept. Failed calls (an element not found yet)
+ * are timed too.
+ */
+public class StepTimer implements WebDriverListener {
+    private final ThreadLocal<Deque<Long>> starts = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /** Wrap a driver so its calls are timed; the result still implements the driver's interfaces. */
+    public static WebDriver decorate(WebDriver driver) {
+        return new EventFiringDecorator<>(new StepTimer()).decorate(driver);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        starts.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        stop(target, method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        stop(target, method);
+    }
+
+    private void stop(Object target, Method method) {
+        Long start = starts.get().poll();
+        if (start == null) return;
+        Timings.record(category(target) + "." + method.getName(), System.nanoTime() - start);
+    }
+
+    static String category(Object target) {
+        if (target instanceof WebDriver) return "driver";
+        if (target instanceof WebElement) return "element";
+        if (target instanceof Alert) return "alert";
+        if (target instanceof WebDriver.TargetLocator) return "switchTo";
+        if (target instanceof WebDriver.Navigation) return "navigate";
+        return "manage";
+    }
+}
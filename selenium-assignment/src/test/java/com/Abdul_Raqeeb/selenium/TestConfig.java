@@ -0,0 +1,78 @@
+package com.Abdul_Raqeeb.selenium;
+
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Central lookup for suite settings.
+ *
+ * Values come from /config.properties on the test classpath and can be
+ * overridden per run with -Dkey=value (e.g. mvn test -Ddriver.pool.size=4).
+ */
+public class TestConfig {
+    private static final Properties PROPS = new Properties();
+
+    static {
+        try (InputStream in = TestConfig.class.getResourceAsStream("/config.properties")) {
+            if (in != null) PROPS.load(in);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    public static String get(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null || value.isBlank()) value = PROPS.getProperty(key);
+        return (value == null || value.isBlank()) ? defaultValue : value.trim();
+    }
+
+    /**
+     * Site under test, without trailing slash. base.url=local starts the
+     * in-JVM {@link DemoblazeServer} and points the suite at it.
+     */
+    public static String baseUrl() {
+        String url = get("base.url", "https://www.demoblaze.com");
+        if (url.equalsIgnoreCase("local")) return DemoblazeServer.shared().url();
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    /**
+     * Backend the pages call (api.url), without trailing slash. Defaults to
+     * api.demoblaze.com, or to the local server when base.url=local.
+     */
+    public static String apiUrl() {
+        String url = get("api.url", null);
+        if (url == null) {
+            return get("base.url", "").equalsIgnoreCase("local")
+                    ? DemoblazeServer.shared().url() : "https://api.demoblaze.com";
+        }
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String value = get(key, null);
+        if (value == null) return defaultValue;
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            System.err.println("TestConfig: '" + key + "' is not a number: " + value);
+            return defaultValue;
+        }
+    }
+
+    /** Like {@link #getInt}, but a value that is not a number is an error rather than ignored. */
+    public static double getDouble(String key, double defaultValue) {
+        String value = get(key, null);
+        if (value == null) return defaultValue;
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("TestConfig: '" + key + "' must be a number, got: " + value);
+        }
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = get(key, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+}
@@ -0,0 +1,145 @@
+package com.Abdul_Raqeeb.selenium;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.HdrHistogram.Histogram;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes the step timings collected in {@link Timings} at the end of a run:
+ * run.output.dir/timings.json and timings.csv (per test and step, plus
+ * "*" rows merged over all tests), page-metrics.csv with the
+ * {@link PageMetrics} snapshots, and a table of the hottest steps on stdout.
+ *
+ * Registered in META-INF/services. It also marks which test is running on
+ * each thread and records the whole test as the "test" step. Nothing is
+ * written for runs without browser steps (timing.report=false turns it off).
+ */
+public class TimingReport implements TestExecutionListener {
+    private static final JsonFactory JSON = new JsonFactory();
+    private final Map<String, Long> started = new ConcurrentHashMap<>();
+
+    @Override
+    public void executionStarted(TestIdentifier id) {
+        String name = testName(id);
+        if (name == null) return;
+        started.put(id.getUniqueId(), System.nanoTime());
+        Timings.startTest(name);
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier id, TestExecutionResult result) {
+        String name = testName(id);
+        if (name == null) return;
+        Long start = started.remove(id.getUniqueId());
+        if (start != null) Timings.record(name, "test", System.nanoTime() - start);
+        Timings.endTest();
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan plan) {
+        if (!TestConfig.getBoolean("timing.report", true)) return;
+        Map<String, Map<String, Histogram>> snapshot = Timings.snapshot();
+        Map<String, Histogram> byStep = Timings.byStep(snapshot);
+        byStep.remove("test");
+        if (byStep.isEmpty()) return;
+
+        Path dir = Paths.get(TestConfig.get("run.output.dir", "run-results"));
+        try {
+            Files.createDirectories(dir);
+            writeJson(dir.resolve("timings.json"), snapshot, byStep);
+            writeCsv(dir.resolve("timings.csv"), snapshot, byStep);
+            PageMetrics.writeCsv(dir.resolve("page-metrics.csv"));
+        } catch (IOException e) {
+            System.err.println("TimingReport: could not write report to " + dir + ": " + e.getMessage());
+        }
+        printSummary(byStep, TestConfig.getInt("timing.summary.rows", 15));
+    }
+
+    /** "Class.method" for test methods, null for containers. */
+    static String testName(TestIdentifier id) {
+        if (!id.isTest() || !(id.getSource().orElse(null) instanceof MethodSource)) return null;
+        MethodSource source = (MethodSource) id.getSource().get();
+        return source.getJavaClass().getSimpleName() + "." + source.getMethodName();
+    }
+
+    private static void writeJson(Path file, Map<String, Map<String, Histogram>> snapshot,
+                                  Map<String, Histogram> byStep) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file);
+             JsonGenerator g = JSON.createGenerator(out).useDefaultPrettyPrinter()) {
+            g.writeStartObject();
+            g.writeStringField("generated", Instant.now().toString());
+            g.writeStringField("unit", "ms");
+            g.writeObjectFieldStart("steps");
+            for (Map.Entry<String, Histogram> e : byStep.entrySet()) writeStats(g, e.getKey(), e.getValue());
+            g.writeEndObject();
+            g.writeObjectFieldStart("tests");
+            for (Map.Entry<String, Map<String, Histogram>> test : snapshot.entrySet()) {
+                g.writeObjectFieldStart(test.getKey());
+                for (Map.Entry<String, Histogram> e : test.getValue().entrySet()) writeStats(g, e.getKey(), e.getValue());
+                g.writeEndObject();
+            }
+            g.writeEndObject();
+            g.writeEndObject();
+        }
+    }
+
+    private static void writeStats(JsonGenerator g, String name, Histogram h) throws IOException {
+        g.writeObjectFieldStart(name);
+        g.writeNumberField("count", h.getTotalCount());
+        g.writeNumberField("total", ms(Timings.totalMicros(h)));
+        g.writeNumberField("p50", ms(h.getValueAtPercentile(50)));
+        g.writeNumberField("p95", ms(h.getValueAtPercentile(95)));
+        g.writeNumberField("p99", ms(h.getValueAtPercentile(99)));
+        g.writeNumberField("max", ms(h.getMaxValue()));
+        g.writeEndObject();
+    }
+
+    private static void writeCsv(Path file, Map<String, Map<String, Histogram>> snapshot,
+                                 Map<String, Histogram> byStep) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("test,step,count,total_ms,p50_ms,p95_ms,p99_ms,max_ms");
+        byStep.forEach((step, h) -> lines.add(csvRow("*", step, h)));
+        snapshot.forEach((test, steps) -> steps.forEach((step, h) -> lines.add(csvRow(test, step, h))));
+        Files.write(file, lines);
+    }
+
+    private static String csvRow(String test, String step, Histogram h) {
+        return String.format(Locale.ROOT, "%s,%s,%d,%.3f,%.3f,%.3f,%.3f,%.3f", test, step, h.getTotalCount(),
+                ms(Timings.totalMicros(h)), ms(h.getValueAtPercentile(50)), ms(h.getValueAtPercentile(95)),
+                ms(h.getValueAtPercentile(99)), ms(h.getMaxValue()));
+    }
+
+    private static void printSummary(Map<String, Histogram> byStep, int rows) {
+        List<Map.Entry<String, Histogram>> hottest = new ArrayList<>(byStep.entrySet());
+        hottest.sort((a, b) -> Long.compare(Timings.totalMicros(b.getValue()), Timings.totalMicros(a.getValue())));
+        System.out.println("Hottest steps (ms):");
+        System.out.printf(Locale.ROOT, "%-28s %7s %10s %8s %8s %8s%n", "step", "count", "total", "p50", "p95", "max");
+        for (Map.Entry<String, Histogram> e : hottest.subList(0, Math.min(rows, hottest.size()))) {
+            Histogram h = e.getValue();
+            System.out.printf(Locale.ROOT, "%-28s %7d %10.1f %8.1f %8.1f %8.1f%n", e.getKey(), h.getTotalCount(),
+                    ms(Timings.totalMicros(h)), ms(h.getValueAtPercentile(50)), ms(h.getValueAtPercentile(95)),
+                    ms(h.getMaxValue()));
+        }
+    }
+
+    private static double ms(long micros) {
+        return micros / 1000.0;
+    }
+}
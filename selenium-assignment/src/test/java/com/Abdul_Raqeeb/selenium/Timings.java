@@ -0,0 +1,74 @@
+package com.Abdul_Raqeeb.selenium;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency histograms per test and per step ("driver.get", "element.click",
+ * "wait", "pool.acquire", ...), recorded in microseconds with HdrHistogram.
+ *
+ * The test a step belongs to is tracked per thread: {@link TimingReport}
+ * sets it when a test starts on that thread. Steps taken outside a test
+ * (pool resets, class setup) go under {@link #NO_TEST}.
+ */
+public class Timings {
+    public static final String NO_TEST = "(fixture)";
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private static final Map<String, Map<String, Histogram>> byTest = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> currentTest = new ThreadLocal<>();
+
+    public static void startTest(String name) {
+        currentTest.set(name);
+    }
+
+    public static void endTest() {
+        currentTest.remove();
+    }
+
+    public static String currentTest() {
+        String name = currentTest.get();
+        return name == null ? NO_TEST : name;
+    }
+
+    /** Record one step for the calling thread's test. */
+    public static void record(String step, long nanos) {
+        record(currentTest(), step, nanos);
+    }
+
+    public static void record(String test, String step, long nanos) {
+        long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 0), MAX_MICROS);
+        byTest.computeIfAbsent(test, t -> new ConcurrentHashMap<>())
+                .computeIfAbsent(step, s -> new ConcurrentHistogram(MAX_MICROS, 3))
+                .recordValue(micros);
+    }
+
+    /** Copy of everything recorded so far: test -> step -> histogram, sorted by name. */
+    public static Map<String, Map<String, Histogram>> snapshot() {
+        Map<String, Map<String, Histogram>> copy = new TreeMap<>();
+        byTest.forEach((test, steps) -> {
+            Map<String, Histogram> stepCopy = new TreeMap<>();
+            steps.forEach((step, h) -> stepCopy.put(step, h.copy()));
+            copy.put(test, stepCopy);
+        });
+        return copy;
+    }
+
+    /** Sum of all recorded values of a histogram, in microseconds. */
+    public static long totalMicros(Histogram h) {
+        return Math.round(h.getMean() * h.getTotalCount());
+    }
+
+    /** The same data merged over all tests: step -> histogram. */
+    public static Map<String, Histogram> byStep(Map<String, Map<String, Histogram>> snapshot) {
+        Map<String, Histogram> merged = new TreeMap<>();
+        snapshot.values().forEach(steps -> steps.forEach((step, h) ->
+                merged.computeIfAbsent(step, s -> new Histogram(MAX_MICROS, 3)).add(h)));
+        return merged;
+    }
+}
@@ -0,0 +1,204 @@
+// Stand-in for the demoblaze.com front-end scripts. Same element ids, texts,
+// alerts and API calls as the real site, with the API served by the same host.
+var API = window.location.protocol + '//' + window.location.host;
+
+function api(path, body, done) {
+  var xhr = new XMLHttpRequest();
+  xhr.open('POST', API + path, true);
+  xhr.setRequestHeader('Content-Type', 'application/json');
+  xhr.onreadystatechange = function () {
+    if (xhr.readyState !== 4) return;
+    var data = xhr.responseText;
+    try { data = JSON.parse(xhr.responseText); } catch (e) {}
+    if (done) done(data);
+  };
+  xhr.send(JSON.stringify(body || {}));
+}
+
+function getCookie(name) {
+  var parts = document.cookie ? document.cookie.split(';') : [];
+  for (var i = 0; i < parts.length; i++) {
+    var kv = parts[i].replace(/^\s+/, '').split('=');
+    if (kv[0] === name) return kv.slice(1).join('=');
+  }
+  return '';
+}
+
+function setCookie(name, value) {
+  document.cookie = name + '=' + value + '; path=/';
+}
+
+function deleteCookie(name) {
+  document.cookie = name + '=; path=/; expires=Thu, 01 Jan 1970 00:00:00 GMT';
+}
+
+function uuid() {
+  return 'xxxxxxxx-xxxx-4xxx-yxxx-xxxxxxxxxxxx'.replace(/[xy]/g, function (c) {
+    var r = Math.random() * 16 | 0;
+    return (c === 'x' ? r : (r & 0x3 | 0x8)).toString(16);
+  });
+}
+
+function byId(id) { return document.getElementById(id); }
+function show(id) { var el = byId(id); if (el) el.style.display = 'block'; }
+function hide(id) { var el = byId(id); if (el) el.style.display = 'none'; }
+function openModal(id) { show(id); }
+function closeModal(id) { hide(id); }
+function value(id) { return byId(id).value; }
+
+function query(name) {
+  var m = new RegExp('[?&]' + name + '=([^&#]*)').exec(window.location.search);
+  return m ? decodeURIComponent(m[1]) : '';
+}
+
+// ---- navbar / account ----
+
+function initNav() {
+  if (!getCookie('user')) setCookie('user', uuid());
+  var token = getCookie('tokenp_');
+  if (!token) return;
+  api('/check', {token: token}, function (res) {
+    if (!res || !res.Item) return;
+    byId('nameofuser').textContent = 'Welcome ' + res.Item.username;
+    byId('nameofuser').style.display = 'inline';
+    byId('logout2').style.display = 'inline';
+    hide('login2');
+    hide('signin2');
+  });
+}
+
+function register() {
+  api('/signup', {username: value('sign-username'), password: btoa(value('sign-password'))}, function (res) {
+    if (res && res.errorMessage) {
+      alert(res.errorMessage);
+    } else {
+      alert('Sign up successful.');
+      closeModal('signInModal');
+    }
+  });
+}
+
+function logIn() {
+  api('/login', {username: value('loginusername'), password: btoa(value('loginpassword'))}, function (res) {
+    if (res && res.errorMessage) {
+      alert(res.errorMessage);
+      return;
+    }
+    setCookie('tokenp_', String(res).replace('Auth_token: ', ''));
+    window.location.href = 'index.html';
+  });
+}
+
+function logOut() {
+  deleteCookie('tokenp_');
+  window.location.href = 'index.html';
+}
+
+function cartOwner() {
+  var token = getCookie('tokenp_');
+  return token ? {cookie: token, flag: true} : {cookie: getCookie('user'), flag: false};
+}
+
+// ---- catalog ----
+
+function renderCards(items) {
+  var html = '';
+  for (var i = 0; i < items.length; i++) {
+    var p = items[i];
+    html += '<div class="col-lg-4 col-md-6 mb-4"><div class="card h-100">'
+        + '<a href="prod.html?idp_=' + p.id + '"><img class="card-img-top img-fluid" src="' + p.img + '" alt=""></a>'
+        + '<div class="card-block">'
+        + '<h4 class="card-title"><a href="prod.html?idp_=' + p.id + '" class="hrefch">' + p.title + '</a></h4>'
+        + '<h5>$' + p.price + '</h5>'
+        + '<p class="card-text" id="article">' + p.desc + '</p>'
+        + '</div></div></div>';
+  }
+  byId('tbodyid').innerHTML = html;
+}
+
+function loadEntries() {
+  api('/entries', {}, function (res) { renderCards(res.Items); });
+}
+
+function byCat(cat) {
+  api('/bycat', {cat: cat}, function (res) { renderCards(res.Items); });
+}
+
+function productId() {
+  return query('idp_');
+}
+
+function loadProduct() {
+  api('/view', {id: productId()}, function (p) {
+    byId('imgp').innerHTML = '<div class="item active"><img src="' + p.img + '" width="400" height="400" alt=""></div>';
+    document.querySelector('.name').textContent = p.title;
+    document.querySelector('.price-container').innerHTML = '$' + p.price + ' <small>*includes tax</small>';
+    document.querySelector('#more-information p').textContent = p.desc;
+  });
+}
+
+function addToCart(id) {
+  var owner = cartOwner();
+  api('/addtocart', {id: uuid(), cookie: owner.cookie, prod_id: Number(id), flag: owner.flag}, function () {
+    alert('Product added');
+  });
+}
+
+// ---- cart / order ----
+
+var cartTotal = 0;
+
+function showCart() {
+  var owner = cartOwner();
+  api('/viewcart', {cookie: owner.cookie, flag: owner.flag}, function (res) {
+    var items = res.Items || [];
+    var rows = [];
+    var remaining = items.length;
+    cartTotal = 0;
+    if (remaining === 0) {
+      byId('tbodyid').innerHTML = '';
+      byId('totalp').textContent = '';
+      return;
+    }
+    for (var i = 0; i < items.length; i++) {
+      (function (index, item) {
+        api('/view', {id: item.prod_id}, function (p) {
+          cartTotal += p.price;
+          rows[index] = '<tr class="success"><td><img width="100" height="100" src="' + p.img + '" alt=""></td>'
+              + '<td>' + p.title + '</td><td>' + p.price + '</td>'
+              + '<td><a href="#" onclick="deleteItem(\'' + item.id + '\'); return false;">Delete</a></td></tr>';
+          if (--remaining === 0) {
+            byId('tbodyid').innerHTML = rows.join('');
+            byId('totalp').textContent = String(cartTotal);
+          }
+        });
+      })(i, items[i]);
+    }
+  });
+}
+
+function deleteItem(id) {
+  api('/deleteitem', {id: id}, function () { showCart(); });
+}
+
+function purchaseOrder() {
+  if (!value('name') || !value('card')) {
+    alert('Please fill out Name and Creditcard.');
+    return;
+  }
+  byId('totalm').textContent = 'Total: ' + cartTotal;
+  var box = document.createElement('div');
+  box.className = 'sweet-alert showSweetAlert visible';
+  box.style.display = 'block';
+  box.innerHTML = '<h2>Thank you for your purchase!</h2>'
+      + '<p class="lead text-muted">Id: ' + Math.floor(Math.random() * 9000000 + 1000000)
+      + '<br>Amount: ' + cartTotal + ' USD<br>Card Number: ' + value('card')
+      + '<br>Name: ' + value('name') + '<br>Date: ' + new Date().toLocaleDateString() + '</p>'
+      + '<div class="sa-button-container"><button class="confirm btn btn-lg btn-primary">OK</button></div>';
+  box.querySelector('button').onclick = function () {
+    var owner = cartOwner();
+    api('/deletecart', {cookie: owner.cookie}, function () { window.location.href = 'index.html'; });
+  };
+  document.body.appendChild(box);
+  closeModal('orderModal');
+}